@@ -0,0 +1,80 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link ConstraintValidator} whose validation logic completes asynchronously, e.g.
+ * because it performs I/O such as checking the uniqueness of a value in a data store.
+ * <p>
+ * When validating asynchronously, e.g. via
+ * {@link Validator#validateAsync(Object, java.util.concurrent.Executor, Class[])},
+ * Bean Validation providers supporting asynchronous constraint validators invoke
+ * {@link #isValidAsync(Object, ConstraintValidatorContext)} and continue the validation
+ * once the returned stage completes, instead of blocking a thread while waiting for it.
+ * <p>
+ * When validating synchronously, {@link #isValid(Object, ConstraintValidatorContext)} is
+ * invoked; by default, it waits for the completion of
+ * {@code isValidAsync(Object, ConstraintValidatorContext)}.
+ *
+ * @param <A> the annotation type handled by an implementation
+ * @param <T> the target type supported by an implementation
+ *
+ * @since 2.1
+ */
+public interface AsyncConstraintValidator<A extends Annotation, T> extends ConstraintValidator<A, T> {
+
+	/**
+	 * Implements the validation logic.
+	 * The state of {@code value} must not be altered.
+	 * <p>
+	 * The {@code context} may be used until the returned stage completes.
+	 * <p>
+	 * This method can be accessed concurrently, thread-safety must be ensured
+	 * by the implementation.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return a stage completed with {@code false} if {@code value} does not pass the
+	 *         constraint; completing it exceptionally fails the validation
+	 */
+	CompletionStage<Boolean> isValidAsync(T value, ConstraintValidatorContext context);
+
+	/**
+	 * Waits for the completion of {@link #isValidAsync(Object, ConstraintValidatorContext)}.
+	 * <p>
+	 * As it blocks the calling thread, this method must not be invoked from a thread of the
+	 * executor completing the stage returned by {@code isValidAsync()}, e.g. a single
+	 * threaded executor: the stage would never complete.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return {@code false} if {@code value} does not pass the constraint
+	 * @throws ValidationException if the stage is completed exceptionally with a checked
+	 *         exception; runtime exceptions and errors are rethrown as is
+	 */
+	@Override
+	default boolean isValid(T value, ConstraintValidatorContext context) {
+		try {
+			return isValidAsync( value, context ).toCompletableFuture().join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new ValidationException( e.getCause() );
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache holding at most a given number of entries, evicting the least recently
+ * used entries first.
+ * <p>
+ * The entries are spread over several independently locked segments, so concurrent accesses
+ * to different keys rarely contend; the eviction order is tracked per segment.
+ * <p>
+ * Not a public API.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+class BoundedCache<K, V> {
+
+	private static final int MAX_SEGMENT_COUNT = 16;
+
+	private final Segment<K, V>[] segments;
+
+	@SuppressWarnings("unchecked")
+	BoundedCache(int maximumSize) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "The maximum size must be at least 1" );
+		}
+
+		int segmentCount = Math.min( MAX_SEGMENT_COUNT, maximumSize );
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			// spread the remainder over the first segments, so the sizes add up to the maximum size
+			segments[i] = new Segment<>( maximumSize / segmentCount + ( i < maximumSize % segmentCount ? 1 : 0 ) );
+		}
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it if absent.
+	 * <p>
+	 * The value is computed without holding any lock, so a slow computation does not block
+	 * the accesses to the other keys of the segment. If several threads compute the value of
+	 * the same key concurrently, the first cached value is returned to all of them.
+	 *
+	 * @param key the key
+	 * @param valueFunction computes the value of an absent key, must not return {@code null}
+	 * @return the cached or computed value
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> valueFunction) {
+		return segmentFor( key ).computeIfAbsent( key, valueFunction );
+	}
+
+	int size() {
+		int size = 0;
+		for ( Segment<K, V> segment : segments ) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	void clear() {
+		for ( Segment<K, V> segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int hash = key.hashCode();
+		hash ^= ( hash >>> 16 );
+		return segments[( hash & Integer.MAX_VALUE ) % segments.length];
+	}
+
+	private static class Segment<K, V> {
+
+		private final LinkedHashMap<K, V> entries;
+
+		private Segment(int maximumSize) {
+			this.entries = new LinkedHashMap<K, V>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		private V computeIfAbsent(K key, Function<? super K, ? extends V> valueFunction) {
+			V value = get( key );
+			if ( value != null ) {
+				return value;
+			}
+			value = valueFunction.apply( key );
+			V existing = putIfAbsent( key, value );
+			return existing != null ? existing : value;
+		}
+
+		private synchronized V get(K key) {
+			return entries.get( key );
+		}
+
+		private synchronized V putIfAbsent(K key, V value) {
+			return entries.putIfAbsent( key, value );
+		}
+
+		private synchronized int size() {
+			return entries.size();
+		}
+
+		private synchronized void clear() {
+			entries.clear();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A {@link MessageInterpolator} caching the templates compiled by another message
+ * interpolator per message template and locale.
+ * <p>
+ * Only the messages interpolated for an explicit locale are cached, i.e. via
+ * {@link #interpolate(String, Context, Locale)}, {@link #compile(String, Locale)} or an
+ * interpolator obtained from {@link #forLocale(Locale)}; the messages interpolated for the
+ * default locale are interpolated by the delegate.
+ * <p>
+ * Each message template is thus only compiled once per locale by the delegate, using
+ * {@link MessageInterpolator#compile(String, Locale)}; interpolating a message then
+ * only walks the compiled template. At most {@code maximumSize} compiled templates are
+ * kept, the least recently used ones are evicted first.
+ * <pre>
+ * Configuration&lt;?&gt; configuration = Validation.byDefaultProvider().configure();
+ * ValidatorFactory factory = configuration
+ *     .messageInterpolator( new CachingMessageInterpolator( configuration.getDefaultMessageInterpolator(), 1024 ) )
+ *     .buildValidatorFactory();
+ * </pre>
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 2.1
+ */
+public class CachingMessageInterpolator implements MessageInterpolator {
+
+	private final MessageInterpolator delegate;
+	private final BoundedCache<TemplateKey, CompiledTemplate> compiledTemplates;
+
+	/**
+	 * Creates a caching message interpolator.
+	 *
+	 * @param delegate the message interpolator compiling the message templates
+	 * @param maximumSize the maximum number of cached compiled templates
+	 * @throws IllegalArgumentException if {@code delegate} is {@code null} or if
+	 *         {@code maximumSize} is lower than {@code 1}
+	 */
+	public CachingMessageInterpolator(MessageInterpolator delegate, int maximumSize) {
+		if ( delegate == null ) {
+			throw new IllegalArgumentException( "The delegate message interpolator must not be null" );
+		}
+		this.delegate = delegate;
+		this.compiledTemplates = new BoundedCache<>( maximumSize );
+	}
+
+	/**
+	 * Interpolates the message template for the default locale of the delegate, by
+	 * invoking {@link MessageInterpolator#interpolate(String, Context)} of the delegate.
+	 * <p>
+	 * As the default locale is up to the delegate, the template is not compiled and not
+	 * cached; use {@link #forLocale(Locale)} to cache the templates of a given locale.
+	 */
+	@Override
+	public String interpolate(String messageTemplate, Context context) {
+		return delegate.interpolate( messageTemplate, context );
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context, Locale locale) {
+		return compile( messageTemplate, locale ).interpolate( context );
+	}
+
+	@Override
+	public CompiledTemplate compile(String messageTemplate, Locale locale) {
+		return compiledTemplates.computeIfAbsent(
+				new TemplateKey( messageTemplate, locale ),
+				key -> delegate.compile( key.messageTemplate, key.locale )
+		);
+	}
+
+	/**
+	 * @return the message interpolator compiling the message templates
+	 */
+	public MessageInterpolator getDelegate() {
+		return delegate;
+	}
+
+	private static class TemplateKey {
+
+		private final String messageTemplate;
+		private final Locale locale;
+		private final int hashCode;
+
+		private TemplateKey(String messageTemplate, Locale locale) {
+			this.messageTemplate = messageTemplate;
+			this.locale = locale;
+			this.hashCode = 31 * Objects.hashCode( messageTemplate ) + Objects.hashCode( locale );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !( obj instanceof TemplateKey ) ) {
+				return false;
+			}
+			TemplateKey other = (TemplateKey) obj;
+			return Objects.equals( messageTemplate, other.messageTemplate ) && Objects.equals( locale, other.locale );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.validation.constraints.Email;
+
+/**
+ * Caches the regular expressions of {@link javax.validation.constraints.Pattern} and
+ * {@link Email} constraints, compiled to {@link Pattern}s.
+ * <p>
+ * Regular expressions are cached per expression and combination of flags, so all the
+ * constraints using the same expression share a single compiled {@code Pattern}. At most
+ * {@code maximumSize} compiled patterns are kept per engine, the least recently used ones
+ * are evicted first.
+ * <p>
+ * Expressions are compiled either to {@link Pattern}s or, for the
+ * {@linkplain RegexpEngine#LINEAR_TIME linear-time engine}, to {@link LinearTimePattern}s,
+ * which are cached separately.
+ * <p>
+ * Bean Validation providers use the cache returned by
+ * {@link ValidatorFactory#getCompiledPatternCache()} to compile the regular expressions
+ * of the built-in constraints; validators of custom constraints may use it as well.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 2.1
+ */
+public class CompiledPatternCache {
+
+	private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private static final CompiledPatternCache DEFAULT = new CompiledPatternCache( DEFAULT_MAXIMUM_SIZE );
+
+	private final BoundedCache<PatternKey, Pattern> patterns;
+	private final BoundedCache<PatternKey, LinearTimePattern> linearTimePatterns;
+	private final LongAdder requestCount = new LongAdder();
+	private final LongAdder compilationCount = new LongAdder();
+
+	/**
+	 * Creates a compiled pattern cache.
+	 *
+	 * @param maximumSize the maximum number of cached patterns
+	 * @throws IllegalArgumentException if {@code maximumSize} is lower than {@code 1}
+	 */
+	public CompiledPatternCache(int maximumSize) {
+		this.patterns = new BoundedCache<>( maximumSize );
+		this.linearTimePatterns = new BoundedCache<>( maximumSize );
+	}
+
+	/**
+	 * @return the cache shared by the factories not providing a cache of their own
+	 */
+	public static CompiledPatternCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns the compiled regular expression of the given {@code @Pattern} constraint.
+	 *
+	 * @param constraint the constraint
+	 * @return the compiled pattern
+	 * @throws PatternSyntaxException if the regular expression is invalid
+	 */
+	public Pattern getPattern(javax.validation.constraints.Pattern constraint) {
+		return getPattern( constraint.regexp(), constraint.flags() );
+	}
+
+	/**
+	 * Returns the compiled regular expression of the given {@code @Email} constraint.
+	 *
+	 * @param constraint the constraint
+	 * @return the compiled pattern
+	 * @throws PatternSyntaxException if the regular expression is invalid
+	 */
+	public Pattern getPattern(Email constraint) {
+		return getPattern( constraint.regexp(), constraint.flags() );
+	}
+
+	/**
+	 * Returns the given regular expression compiled with the given flags.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the flags to compile the expression with
+	 * @return the compiled pattern
+	 * @throws IllegalArgumentException if {@code regexp} or {@code flags} is {@code null}
+	 * @throws PatternSyntaxException if the regular expression is invalid
+	 */
+	public Pattern getPattern(String regexp, javax.validation.constraints.Pattern.Flag... flags) {
+		if ( flags == null ) {
+			throw new IllegalArgumentException( "The flags must not be null" );
+		}
+		return getPattern( regexp, combine( flags ) );
+	}
+
+	/**
+	 * Returns the given regular expression compiled with the given flags.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the bit mask of the flags to compile the expression with, see
+	 *        {@link Pattern#compile(String, int)}
+	 * @return the compiled pattern
+	 * @throws IllegalArgumentException if {@code regexp} is {@code null}
+	 * @throws PatternSyntaxException if the regular expression is invalid
+	 */
+	public Pattern getPattern(String regexp, int flags) {
+		if ( regexp == null ) {
+			throw new IllegalArgumentException( "The regular expression must not be null" );
+		}
+		requestCount.increment();
+		return patterns.computeIfAbsent( new PatternKey( regexp, flags ), key -> {
+			compilationCount.increment();
+			return Pattern.compile( key.regexp, key.flags );
+		} );
+	}
+
+	/**
+	 * Returns the given regular expression compiled with the given flags by the
+	 * {@linkplain RegexpEngine#LINEAR_TIME linear-time engine}.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the flags to compile the expression with
+	 * @return the compiled pattern
+	 * @throws IllegalArgumentException if {@code regexp} or {@code flags} is {@code null}
+	 * @throws PatternSyntaxException if the regular expression is invalid or not supported
+	 *         by the linear-time engine
+	 */
+	public LinearTimePattern getLinearTimePattern(String regexp, javax.validation.constraints.Pattern.Flag... flags) {
+		if ( flags == null ) {
+			throw new IllegalArgumentException( "The flags must not be null" );
+		}
+		return getLinearTimePattern( regexp, combine( flags ) );
+	}
+
+	/**
+	 * Returns the given regular expression compiled with the given flags by the
+	 * {@linkplain RegexpEngine#LINEAR_TIME linear-time engine}.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the bit mask of the flags to compile the expression with, see
+	 *        {@link Pattern#compile(String, int)}
+	 * @return the compiled pattern
+	 * @throws IllegalArgumentException if {@code regexp} is {@code null}
+	 * @throws PatternSyntaxException if the regular expression is invalid or not supported
+	 *         by the linear-time engine
+	 */
+	public LinearTimePattern getLinearTimePattern(String regexp, int flags) {
+		if ( regexp == null ) {
+			throw new IllegalArgumentException( "The regular expression must not be null" );
+		}
+		requestCount.increment();
+		return linearTimePatterns.computeIfAbsent( new PatternKey( regexp, flags ), key -> {
+			compilationCount.increment();
+			return LinearTimePattern.compile( key.regexp, key.flags );
+		} );
+	}
+
+	/**
+	 * @return the number of patterns returned from the cache, without compiling them
+	 */
+	public long getHitCount() {
+		return requestCount.sum() - compilationCount.sum();
+	}
+
+	/**
+	 * @return the number of compiled regular expressions, including the invalid ones
+	 */
+	public long getCompilationCount() {
+		return compilationCount.sum();
+	}
+
+	/**
+	 * @return the number of cached patterns
+	 */
+	public int size() {
+		return patterns.size() + linearTimePatterns.size();
+	}
+
+	/**
+	 * Removes all the cached patterns.
+	 */
+	public void clear() {
+		patterns.clear();
+		linearTimePatterns.clear();
+	}
+
+	private static int combine(javax.validation.constraints.Pattern.Flag[] flags) {
+		int combinedFlags = 0;
+		for ( javax.validation.constraints.Pattern.Flag flag : flags ) {
+			combinedFlags |= flag.getValue();
+		}
+		return combinedFlags;
+	}
+
+	private static class PatternKey {
+
+		private final String regexp;
+		private final int flags;
+		private final int hashCode;
+
+		private PatternKey(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.hashCode = 31 * regexp.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !( obj instanceof PatternKey ) ) {
+				return false;
+			}
+			PatternKey other = (PatternKey) obj;
+			return flags == other.flags && Objects.equals( regexp, other.regexp );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -50,6 +50,28 @@ import javax.validation.valueextraction.ValueExtractorDeclarationException;
  */
 public interface Configuration<T extends Configuration<T>> {
 
+	/**
+	 * {@link #maxViolationCount(int)}で設定される違反の最大数を保持するプロパティの名前です。
+	 *
+	 * @since 2.1
+	 */
+	String MAX_VIOLATION_COUNT_PROPERTY = "javax.validation.max_violation_count";
+
+	/**
+	 * {@link #executableViolationStackTrace(boolean)}で設定される、メソッドとコンストラクタの検証で
+	 * スローされる例外がスタックトレースを持つかどうかを保持するプロパティの名前です。
+	 *
+	 * @since 2.1
+	 */
+	String EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY = "javax.validation.executable.violation_stack_trace";
+
+	/**
+	 * {@link #regexpEngine(RegexpEngine)}で設定される正規表現エンジンを保持するプロパティの名前です。
+	 *
+	 * @since 2.1
+	 */
+	String REGEXP_ENGINE_PROPERTY = "javax.validation.regexp_engine";
+
 	/**
          * このメソッドを呼び出すことで{@code META-INF/validation.xml}ファイルからのデータを無視します。
 	 * <p>
@@ -187,6 +209,78 @@ public interface Configuration<T extends Configuration<T>> {
 	 */
 	T addProperty(String name, String value);
 
+	/**
+	 * 1回の検証で報告される制約違反の最大数を定義します。
+	 * <p>
+	 * 違反の数がこの値に達すると、{@link Validator}は残りの制約やカスケードの検証を行わずに検証を終了します。
+	 * {@code 1}を渡すと、最初の違反で検証を終了するフェイルファストモードになります。
+	 * 検証が途中で終了するため、どの違反が報告されるかは決まっていません。
+	 * <p>
+	 * {@link ValidatorContext#maxViolationCount(int)}で{@code Validator}ごとに上書きすることが出来ます。
+	 * <p>
+	 * デフォルト実装は{@link #MAX_VIOLATION_COUNT_PROPERTY}プロパティを{@link #addProperty(String, String)}で追加します。
+	 *
+	 * @param maxViolationCount 報告される制約違反の最大数
+	 * @return メソッドチェーンパターンに従った {@code this}
+	 * @throws IllegalArgumentException {@code maxViolationCount}が{@code 1}未満の場合
+	 *
+	 * @since 2.1
+	 */
+	default T maxViolationCount(int maxViolationCount) {
+		if ( maxViolationCount < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of violations must be at least 1" );
+		}
+		return addProperty( MAX_VIOLATION_COUNT_PROPERTY, Integer.toString( maxViolationCount ) );
+	}
+
+	/**
+	 * メソッドとコンストラクタの検証で違反を報告する{@link ConstraintViolationException}が
+	 * スタックトレースを持つかどうかを定義します。
+	 * <p>
+	 * インターセプターなどのメソッド検証の統合は、{@code false}が設定されている場合、
+	 * {@link ConstraintViolationException#ConstraintViolationException(java.util.Set, int, boolean)}で
+	 * スタックトレースを持たない例外を作成します。不正なリクエストが大量に送られる場合、スタックトレースの生成コストを省くことが出来ます。
+	 * 設定されていない場合、例外はスタックトレースを持ちます。
+	 * <p>
+	 * {@code META-INF/validation.xml}では{@link #EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY}プロパティで設定することが出来ます。
+	 * デフォルト実装はこのプロパティを{@link #addProperty(String, String)}で追加します。
+	 *
+	 * @param enabled 例外がスタックトレースを持つかどうか
+	 * @return メソッドチェーンパターンに従った {@code this}
+	 *
+	 * @since 2.1
+	 */
+	default T executableViolationStackTrace(boolean enabled) {
+		return addProperty( EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY, Boolean.toString( enabled ) );
+	}
+
+	/**
+	 * {@link javax.validation.constraints.Pattern}と{@link javax.validation.constraints.Email}の
+	 * 正規表現を評価するエンジンを選択します。
+	 * <p>
+	 * {@link RegexpEngine#LINEAR_TIME}を選択すると、正規表現は入力の長さに対して線形時間で評価されるため、
+	 * 悪意のある入力によって検証が長時間CPUを占有することはありません。
+	 * エンジンがサポートしない正規表現(後方参照など)は、制約のメタデータを構築するとき、
+	 * 遅くとも{@link ValidatorFactory#warmUp(java.util.Collection, java.util.concurrent.Executor)}で
+	 * {@link ConstraintDeclarationException}として報告されます。
+	 * 設定されていない場合、{@link RegexpEngine#BACKTRACKING}が使用されます。
+	 * <p>
+	 * {@code META-INF/validation.xml}では{@link #REGEXP_ENGINE_PROPERTY}プロパティで設定することが出来ます。
+	 * デフォルト実装はこのプロパティを{@link #addProperty(String, String)}で追加します。
+	 *
+	 * @param engine 正規表現エンジン
+	 * @return メソッドチェーンパターンに従った {@code this}
+	 * @throws IllegalArgumentException {@code engine}が{@code null}の場合
+	 *
+	 * @since 2.1
+	 */
+	default T regexpEngine(RegexpEngine engine) {
+		if ( engine == null ) {
+			throw new IllegalArgumentException( "The regular expression engine must not be null" );
+		}
+		return addProperty( REGEXP_ENGINE_PROPERTY, engine.name() );
+	}
+
 	/**
 	 * Returns an implementation of the {@link MessageInterpolator} interface
 	 * following the default {@code MessageInterpolator} defined in the
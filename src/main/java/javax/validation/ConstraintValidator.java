@@ -7,6 +7,9 @@
 package javax.validation;
 
 import java.lang.annotation.Annotation;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntFunction;
 
 import javax.validation.constraintvalidation.SupportedValidationTarget;
 
@@ -25,6 +28,11 @@ import javax.validation.constraintvalidation.SupportedValidationTarget;
  * {@code ConstraintValidator} implementation to mark it as supporting
  * cross-parameter constraints. Check out {@link SupportedValidationTarget}
  * and {@link Constraint} for more information.
+ * <p>
+ * Validators of {@code int}, {@code long} and {@code double} values may implement
+ * {@link IntConstraintValidator}, {@link LongConstraintValidator} and
+ * {@link DoubleConstraintValidator} respectively, so primitive values are validated
+ * without being boxed.
  *
  * @param <A> the annotation type handled by an implementation
  * @param <T> the target type supported by an implementation
@@ -55,7 +63,8 @@ public interface ConstraintValidator<A extends Annotation, T> {
 	 * The state of {@code value} must not be altered.
 	 * <p>
 	 * This method can be accessed concurrently, thread-safety must be ensured
-	 * by the implementation.
+	 * by the implementation. This is notably the case when several objects are
+	 * validated in parallel, see {@link Validator#validateAll(java.util.List, java.util.concurrent.Executor, Class[])}.
 	 *
 	 * @param value object to validate
 	 * @param context context in which the constraint is evaluated
@@ -63,4 +72,43 @@ public interface ConstraintValidator<A extends Annotation, T> {
 	 * @return {@code false} if {@code value} does not pass the constraint
 	 */
 	boolean isValid(T value, ConstraintValidatorContext context);
+
+	/**
+	 * Validates several values at once, typically the elements of a container, e.g. a
+	 * {@code List} whose elements all carry this constraint.
+	 * <p>
+	 * Providers may invoke this method instead of invoking
+	 * {@link #isValid(Object, ConstraintValidatorContext)} once per value. Implementations
+	 * may override it to process the values in a tight loop, paying the interface
+	 * dispatch once per batch.
+	 * <p>
+	 * Each value is validated in its own context, which {@code contexts} returns for the
+	 * index of the value, so the constraint violations customized for a value are reported
+	 * for that value. Implementations overriding this method should only retrieve the
+	 * context of a value if they actually use it, which allows providers to create the
+	 * contexts lazily.
+	 * <p>
+	 * The default implementation invokes {@link #isValid(Object, ConstraintValidatorContext)}
+	 * for each value, passing the context of the value.
+	 *
+	 * @param values values to validate, must not be altered
+	 * @param contexts returns the context in which the constraint is evaluated for the
+	 *        value at the given index
+	 *
+	 * @return a {@code BitSet} whose bit at index {@code i} is set if
+	 *         {@code values.get( i )} does not pass the constraint
+	 *
+	 * @since 2.1
+	 */
+	default BitSet findInvalid(List<? extends T> values, IntFunction<? extends ConstraintValidatorContext> contexts) {
+		BitSet invalid = new BitSet( values.size() );
+		int index = 0;
+		for ( T value : values ) {
+			if ( !isValid( value, contexts.apply( index ) ) ) {
+				invalid.set( index );
+			}
+			index++;
+		}
+		return invalid;
+	}
 }
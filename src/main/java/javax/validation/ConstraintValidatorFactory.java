@@ -10,6 +10,24 @@ package javax.validation;
  * Instantiates a {@link ConstraintValidator} instance based off its class.
  * The {@code ConstraintValidatorFactory} is <b>not</b> responsible
  * for calling {@link ConstraintValidator#initialize(java.lang.annotation.Annotation)}.
+ * <p>
+ * The Bean Validation provider obtains an instance for a given constraint, initializes it
+ * and may then keep using it for this constraint, e.g. for the lifetime of the
+ * {@link ValidatorFactory}; as {@link ConstraintValidator#isValid(Object, ConstraintValidatorContext)}
+ * must be thread-safe, the instance may be used by several threads concurrently. An
+ * instance is used for a single constraint at a time. Once the provider doesn't use an
+ * instance anymore, it passes it to {@link #releaseInstance(ConstraintValidator)}, at the
+ * latest when the {@code ValidatorFactory} is closed, and doesn't use it afterwards.
+ * <p>
+ * For validators annotated with
+ * {@link javax.validation.constraintvalidation.ThreadSafeValidator}, the provider
+ * typically obtains a single instance per constraint and shares it for the lifetime of
+ * the {@code ValidatorFactory}.
+ * <p>
+ * A factory may therefore return a released instance from a later call to
+ * {@link #getInstance(Class)} instead of creating a new one, as
+ * {@link PoolingConstraintValidatorFactory} does. The provider initializes the instance
+ * again.
  *
  * @author Dhanji R. Prasanna
  * @author Emmanuel Bernard
@@ -21,13 +39,16 @@ public interface ConstraintValidatorFactory {
 	 * @param key The class of the constraint validator to instantiate
 	 * @param <T> The type of the constraint validator to instantiate
 	 *
-	 * @return A new constraint validator instance of the specified class
+	 * @return A new or released constraint validator instance of the specified class
 	 */
 	<T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key);
 
 	/**
 	 * Signals {@code ConstraintValidatorFactory} that the instance is no longer
 	 * being used by the Bean Validation provider.
+	 * <p>
+	 * The factory may destroy the instance, or hand it out again from
+	 * {@link #getInstance(Class)}.
 	 *
 	 * @param instance validator being released
 	 *
@@ -19,11 +19,36 @@ import javax.validation.metadata.ConstraintDescriptor;
 public interface ConstraintViolation<T> {
 
 	/**
+	 * Returns the interpolated error message for this constraint violation.
+	 * <p>
+	 * Implementations may defer the interpolation of the message template until
+	 * this method is invoked for the first time, so no interpolation cost is paid
+	 * by callers only interested in e.g. {@link #getPropertyPath()} or
+	 * {@link #getMessageTemplate()}. In that case:
+	 * <ul>
+	 *     <li>the message must be the same as if it had been interpolated when the
+	 *     violation was created; in particular, the {@link MessageInterpolator} and the
+	 *     values exposed by the {@link MessageInterpolator.Context} must be captured at
+	 *     creation time</li>
+	 *     <li>the {@link java.util.Locale} targeted by the validation must be captured at
+	 *     creation time and the message is interpolated via
+	 *     {@link MessageInterpolator#interpolate(String, MessageInterpolator.Context, java.util.Locale)}
+	 *     with that locale, so the message does not depend on the thread invoking this
+	 *     method</li>
+	 *     <li>the interpolated message is cached, subsequent invocations return the
+	 *     same message without interpolating it again</li>
+	 *     <li>concurrent invocations must be safe and return the same message</li>
+	 * </ul>
+	 *
 	 * @return the interpolated error message for this constraint violation
 	 */
 	String getMessage();
 
 	/**
+	 * Returns the non-interpolated error message for this constraint violation.
+	 * <p>
+	 * Invoking this method never triggers the interpolation of the message.
+	 *
 	 * @return the non-interpolated error message for this constraint violation
 	 */
 	String getMessageTemplate();
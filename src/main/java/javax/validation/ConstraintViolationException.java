@@ -6,12 +6,18 @@
  */
 package javax.validation;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Reports the result of constraint violations.
+ * <p>
+ * Unless a message is given explicitly, the message of the exception lists the property
+ * path and the message of each constraint violation. It is built on the first invocation
+ * of {@link #getMessage()} only, so throwing an exception which is eventually handled
+ * without looking at its message doesn't pay for it.
  *
  * @author Emmanuel Bernard
  * @author Gunnar Morling
@@ -20,6 +26,9 @@ import java.util.stream.Collectors;
 public class ConstraintViolationException extends ValidationException {
 
 	private final Set<ConstraintViolation<?>> constraintViolations;
+	private final boolean buildMessage;
+	private final int maxReportedViolations;
+	private volatile String violationsMessage;
 
 	/**
 	 * Creates a constraint violation report.
@@ -37,6 +46,8 @@ public class ConstraintViolationException extends ValidationException {
 		else {
 			this.constraintViolations = new HashSet<>( constraintViolations );
 		}
+		this.buildMessage = false;
+		this.maxReportedViolations = Integer.MAX_VALUE;
 	}
 
 	/**
@@ -45,10 +56,76 @@ public class ConstraintViolationException extends ValidationException {
 	 * @param constraintViolations a {@code Set} of {@link ConstraintViolation}s or null
 	 */
 	public ConstraintViolationException(Set<? extends ConstraintViolation<?>> constraintViolations) {
-		this(
-				constraintViolations != null ? toString( constraintViolations ) : null,
-				constraintViolations
-		);
+		super();
+
+		if ( constraintViolations == null ) {
+			this.constraintViolations = null;
+		}
+		else {
+			this.constraintViolations = new HashSet<>( constraintViolations );
+		}
+		this.buildMessage = constraintViolations != null;
+		this.maxReportedViolations = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Creates a constraint violation report, listing at most {@code maxReportedViolations}
+	 * constraint violations in its message.
+	 * <p>
+	 * Unlike the other constructors, this constructor doesn't copy the given violations:
+	 * {@link #getConstraintViolations()} returns an unmodifiable view of
+	 * {@code constraintViolations}, which callers must not modify afterwards.
+	 *
+	 * @param constraintViolations a {@code Set} of {@link ConstraintViolation}s or null
+	 * @param maxReportedViolations the maximum number of violations listed in the message,
+	 *        the number of the other ones being appended
+	 * @throws IllegalArgumentException if {@code maxReportedViolations} is lower than 1
+	 *
+	 * @since 2.1
+	 */
+	public ConstraintViolationException(Set<? extends ConstraintViolation<?>> constraintViolations,
+										int maxReportedViolations) {
+		this( constraintViolations, maxReportedViolations, true );
+	}
+
+	/**
+	 * Creates a constraint violation report, listing at most {@code maxReportedViolations}
+	 * constraint violations in its message, optionally without stack trace.
+	 * <p>
+	 * An exception without stack trace also doesn't record suppressed exceptions. Creating
+	 * it is much cheaper, which matters when it is used for control flow, e.g. by
+	 * method validation interceptors rejecting invalid requests at a high rate. Whether
+	 * interceptors create such exceptions is configured via
+	 * {@link Configuration#executableViolationStackTrace(boolean)}.
+	 * <p>
+	 * As {@link #ConstraintViolationException(Set, int)}, this constructor doesn't copy the
+	 * given violations, which callers must not modify afterwards.
+	 *
+	 * @param constraintViolations a {@code Set} of {@link ConstraintViolation}s or null
+	 * @param maxReportedViolations the maximum number of violations listed in the message,
+	 *        the number of the other ones being appended
+	 * @param writableStackTrace whether or not the stack trace is filled in
+	 * @throws IllegalArgumentException if {@code maxReportedViolations} is lower than 1
+	 *
+	 * @since 2.1
+	 */
+	public ConstraintViolationException(Set<? extends ConstraintViolation<?>> constraintViolations,
+										int maxReportedViolations,
+										boolean writableStackTrace) {
+		super( null, null, writableStackTrace, writableStackTrace );
+
+		if ( maxReportedViolations < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of reported violations must be at least 1" );
+		}
+
+		if ( constraintViolations == null ) {
+			this.constraintViolations = null;
+		}
+		else {
+			this.constraintViolations = Collections.unmodifiableSet( constraintViolations );
+		}
+		this.buildMessage = constraintViolations != null;
+		this.maxReportedViolations = maxReportedViolations;
 	}
 
 	/**
@@ -60,9 +137,42 @@ public class ConstraintViolationException extends ValidationException {
 		return constraintViolations;
 	}
 
-	private static String toString(Set<? extends ConstraintViolation<?>> constraintViolations) {
-		return constraintViolations.stream()
-			.map( cv -> cv == null ? "null" : cv.getPropertyPath() + ": " + cv.getMessage() )
-			.collect( Collectors.joining( ", " ) );
+	@Override
+	public String getMessage() {
+		if ( !buildMessage ) {
+			return super.getMessage();
+		}
+
+		String message = violationsMessage;
+		if ( message == null ) {
+			message = toString( constraintViolations, maxReportedViolations );
+			violationsMessage = message;
+		}
+		return message;
+	}
+
+	private static String toString(Set<? extends ConstraintViolation<?>> constraintViolations, int maxReportedViolations) {
+		StringBuilder message = new StringBuilder();
+		Iterator<? extends ConstraintViolation<?>> iterator = constraintViolations.iterator();
+		int reportedViolations = 0;
+		while ( iterator.hasNext() && reportedViolations < maxReportedViolations ) {
+			ConstraintViolation<?> cv = iterator.next();
+			if ( reportedViolations > 0 ) {
+				message.append( ", " );
+			}
+			if ( cv == null ) {
+				message.append( "null" );
+			}
+			else {
+				message.append( cv.getPropertyPath() ).append( ": " ).append( cv.getMessage() );
+			}
+			reportedViolations++;
+		}
+
+		int remainingViolations = constraintViolations.size() - reportedViolations;
+		if ( remainingViolations > 0 ) {
+			message.append( ", ... (" ).append( remainingViolations ).append( " more)" );
+		}
+		return message.toString();
 	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link ConstraintValidator} validating {@code int} values without boxing them.
+ * <p>
+ * Bean Validation providers supporting primitive constraint validators invoke
+ * {@link #isValid(int, ConstraintValidatorContext)} with the unboxed value of
+ * {@code int} properties, parameters, return values and container elements, in
+ * preference to {@link #isValid(Integer, ConstraintValidatorContext)}. Values which are
+ * boxed already, e.g. {@code Integer} properties, are validated via the latter, which
+ * unboxes the value.
+ *
+ * @param <A> the annotation type handled by an implementation
+ *
+ * @since 2.1
+ */
+public interface IntConstraintValidator<A extends Annotation> extends ConstraintValidator<A, Integer> {
+
+	/**
+	 * Implements the validation logic for an {@code int} value.
+	 * <p>
+	 * This method can be accessed concurrently, thread-safety must be ensured
+	 * by the implementation.
+	 *
+	 * @param value value to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return {@code false} if {@code value} does not pass the constraint
+	 */
+	boolean isValid(int value, ConstraintValidatorContext context);
+
+	/**
+	 * Considers {@code null} as valid and validates other values via
+	 * {@link #isValid(int, ConstraintValidatorContext)}.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return {@code false} if {@code value} does not pass the constraint
+	 */
+	@Override
+	default boolean isValid(Integer value, ConstraintValidatorContext context) {
+		return value == null || isValid( value.intValue(), context );
+	}
+
+	/**
+	 * Validates the elements of a {@code int} array at once, e.g. a column of values
+	 * all carrying this constraint.
+	 * <p>
+	 * Providers may invoke this method instead of invoking
+	 * {@link #isValid(int, ConstraintValidatorContext)} once per element. Implementations
+	 * may override it with a loop over the array the JIT compiler is able to vectorize.
+	 * Each value is validated in its own context, see
+	 * {@link ConstraintValidator#findInvalid(java.util.List, IntFunction)}.
+	 * <p>
+	 * The default implementation invokes {@code isValid(int, ConstraintValidatorContext)}
+	 * for each element, passing the context of the element.
+	 *
+	 * @param values values to validate, must not be altered
+	 * @param contexts returns the context in which the constraint is evaluated for the
+	 *        element at the given index
+	 *
+	 * @return a {@code BitSet} whose bit at index {@code i} is set if
+	 *         {@code values[i]} does not pass the constraint
+	 */
+	default BitSet findInvalid(int[] values, IntFunction<? extends ConstraintValidatorContext> contexts) {
+		BitSet invalid = new BitSet( values.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( !isValid( values[i], contexts.apply( i ) ) ) {
+				invalid.set( i );
+			}
+		}
+		return invalid;
+	}
+}
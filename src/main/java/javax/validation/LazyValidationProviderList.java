@@ -0,0 +1,198 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.spi.ValidationProvider;
+
+/**
+ * A list of {@link ValidationProvider}s whose elements are only instantiated when they are
+ * needed.
+ * <p>
+ * As the eager service loader based discovery, the list skips the providers which cannot be
+ * loaded or instantiated. The providers are therefore instantiated in order: retrieving the
+ * provider at a given position instantiates the preceding ones, {@link #size()} instantiates
+ * all of them. {@link #findProvider(Class)} only instantiates the providers of the requested
+ * type.
+ * <p>
+ * Each provider is instantiated at most once. This class is thread-safe; the providers
+ * already instantiated are retrieved without locking, as the list is shared by all the
+ * bootstraps using the same class loader.
+ * <p>
+ * Not a public API.
+ */
+class LazyValidationProviderList extends AbstractList<ValidationProvider<?>> {
+
+	/**
+	 * Marks the references of providers which cannot be loaded or instantiated.
+	 */
+	private static final Object UNAVAILABLE = new Object();
+
+	private final List<? extends ProviderReference> references;
+	private final Object[] instances;
+	private final List<ValidationProvider<?>> availableProviders = new ArrayList<>();
+	private final ConcurrentMap<Class<?>, ValidationProvider<?>> providersByType = new ConcurrentHashMap<>();
+	private int nextReference;
+
+	/**
+	 * The available providers instantiated so far, published for lock-free reads.
+	 */
+	private volatile ValidationProvider<?>[] resolvedProviders = new ValidationProvider<?>[0];
+	private volatile boolean complete;
+
+	LazyValidationProviderList(List<? extends ProviderReference> references) {
+		this.references = references;
+		this.instances = new Object[references.size()];
+	}
+
+	@Override
+	public ValidationProvider<?> get(int index) {
+		ValidationProvider<?>[] providers = resolvedProviders;
+		if ( index >= providers.length && !complete ) {
+			providers = resolveUpTo( index );
+		}
+		if ( index < 0 || index >= providers.length ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + providers.length );
+		}
+		return providers[index];
+	}
+
+	@Override
+	public int size() {
+		if ( complete ) {
+			return resolvedProviders.length;
+		}
+		return resolveUpTo( Integer.MAX_VALUE ).length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if ( resolvedProviders.length > 0 ) {
+			return false;
+		}
+		if ( complete ) {
+			return true;
+		}
+		return resolveUpTo( 0 ).length == 0;
+	}
+
+	/**
+	 * Returns the first provider of the given type, without instantiating the providers of
+	 * other types.
+	 *
+	 * @param providerType the requested provider type
+	 * @return the first available provider of the given type or {@code null} if there is none
+	 */
+	ValidationProvider<?> findProvider(Class<?> providerType) {
+		ValidationProvider<?> provider = providersByType.get( providerType );
+		if ( provider != null ) {
+			return provider;
+		}
+
+		provider = findProviderLocked( providerType );
+		if ( provider != null ) {
+			providersByType.putIfAbsent( providerType, provider );
+		}
+		return provider;
+	}
+
+	private synchronized ValidationProvider<?> findProviderLocked(Class<?> providerType) {
+		for ( int i = 0; i < references.size(); i++ ) {
+			Class<?> type = typeOf( i );
+			if ( type != null && providerType.isAssignableFrom( type ) ) {
+				ValidationProvider<?> provider = instance( i );
+				if ( provider != null ) {
+					return provider;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Instantiates the providers until the one at the given position among the available
+	 * providers, or until all providers are instantiated, and publishes them.
+	 *
+	 * @return the available providers instantiated so far
+	 */
+	private synchronized ValidationProvider<?>[] resolveUpTo(int index) {
+		int resolvedCount = availableProviders.size();
+		while ( availableProviders.size() <= index && nextReference < references.size() ) {
+			ValidationProvider<?> provider = instance( nextReference++ );
+			if ( provider != null ) {
+				availableProviders.add( provider );
+			}
+		}
+		if ( availableProviders.size() != resolvedCount ) {
+			resolvedProviders = availableProviders.toArray( new ValidationProvider<?>[availableProviders.size()] );
+		}
+		complete = nextReference == references.size();
+		return resolvedProviders;
+	}
+
+	private Class<?> typeOf(int referenceIndex) {
+		if ( instances[referenceIndex] == UNAVAILABLE ) {
+			return null;
+		}
+		try {
+			return run( references.get( referenceIndex )::type );
+		}
+		catch (ValidationException | ServiceConfigurationError e) {
+			instances[referenceIndex] = UNAVAILABLE;
+			return null;
+		}
+	}
+
+	private ValidationProvider<?> instance(int referenceIndex) {
+		Object instance = instances[referenceIndex];
+		if ( instance == null ) {
+			try {
+				instance = run( references.get( referenceIndex )::get );
+			}
+			catch (ValidationException | ServiceConfigurationError e) {
+				// ignore, because it can happen when multiple
+				// providers are present and some of them are not class loader
+				// compatible with our API.
+				instance = UNAVAILABLE;
+			}
+			instances[referenceIndex] = instance;
+		}
+		return instance == UNAVAILABLE ? null : (ValidationProvider<?>) instance;
+	}
+
+	private static <P> P run(PrivilegedAction<P> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * A not yet instantiated provider.
+	 */
+	interface ProviderReference {
+
+		/**
+		 * @return the provider type
+		 * @throws ValidationException or {@link ServiceConfigurationError} if the provider
+		 *         type cannot be loaded
+		 */
+		Class<?> type();
+
+		/**
+		 * @return a new provider instance
+		 * @throws ValidationException or {@link ServiceConfigurationError} if the provider
+		 *         cannot be instantiated
+		 */
+		ValidationProvider<?> get();
+	}
+}
@@ -0,0 +1,913 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A regular expression matched in time linear in the length of the input, whatever the
+ * expression and the input.
+ * <p>
+ * Unlike {@link Pattern}, which backtracks and may thus take exponential time for some
+ * expressions, e.g. {@code (a+)+b}, the expression is compiled to a non-deterministic
+ * automaton whose states are all tracked at once while reading the input. This bounds the
+ * latency of validating untrusted input against {@link javax.validation.constraints.Pattern}
+ * and {@link javax.validation.constraints.Email} constraints, see
+ * {@link RegexpEngine#LINEAR_TIME}.
+ * <p>
+ * The syntax is the one of {@code Pattern}, restricted to the constructs which don't
+ * require backtracking:
+ * <ul>
+ *     <li>characters, escaped characters and quotations ({@code \Q...\E})</li>
+ *     <li>character classes with ranges and negation, without union or intersection of
+ *     classes, the predefined classes {@code .}, {@code \d}, {@code \D}, {@code \s},
+ *     {@code \S}, {@code \w} and {@code \W}</li>
+ *     <li>the boundary matchers {@code ^} and {@code $}</li>
+ *     <li>greedy and reluctant quantifiers</li>
+ *     <li>alternations and groups, capturing or not</li>
+ * </ul>
+ * Back references, lookaround, atomic groups, possessive quantifiers, word boundaries,
+ * Unicode properties, embedded flags and the {@code \x{h...h}} escape are not supported,
+ * nor are the {@link Pattern#COMMENTS}, {@link Pattern#CANON_EQ} and {@link Pattern#LITERAL}
+ * flags. Case-insensitive matching folds the case as {@code Pattern} does.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @since 2.1
+ */
+public final class LinearTimePattern {
+
+	private static final int MAX_PROGRAM_SIZE = 100_000;
+
+	/**
+	 * The largest program whose matching state is kept by the pattern between matches.
+	 */
+	private static final int MAX_REUSED_STATE_SIZE = 4096;
+
+	private static final int SUPPORTED_FLAGS = Pattern.UNIX_LINES | Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
+			| Pattern.DOTALL | Pattern.UNICODE_CASE;
+
+	private static final int CHARACTER = 0;
+	private static final int SPLIT = 1;
+	private static final int JUMP = 2;
+	private static final int LINE_START = 3;
+	private static final int LINE_END = 4;
+	private static final int MATCH = 5;
+
+	private final String regexp;
+	private final int flags;
+	private final int[] operations;
+	private final int[] targets;
+	private final int[] alternativeTargets;
+	private final IntPredicate[] characters;
+	// the state of the last completed match, taken by the next one; empty while in use
+	private final AtomicReference<MatchState> reusableState = new AtomicReference<>();
+
+	private LinearTimePattern(String regexp, int flags, Compiler compiler) {
+		this.regexp = regexp;
+		this.flags = flags;
+		int size = compiler.operations.size();
+		this.operations = new int[size];
+		this.targets = new int[size];
+		this.alternativeTargets = new int[size];
+		this.characters = compiler.characters.toArray( new IntPredicate[size] );
+		for ( int i = 0; i < size; i++ ) {
+			operations[i] = compiler.operations.get( i );
+			targets[i] = compiler.targets.get( i );
+			alternativeTargets[i] = compiler.alternativeTargets.get( i );
+		}
+	}
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the bit mask of the flags to compile the expression with, see
+	 *        {@link Pattern#compile(String, int)}
+	 * @return the compiled expression
+	 * @throws IllegalArgumentException if {@code regexp} is {@code null}
+	 * @throws PatternSyntaxException if the expression is invalid, or uses a construct or a
+	 *         flag not supported by this engine
+	 */
+	public static LinearTimePattern compile(String regexp, int flags) {
+		if ( regexp == null ) {
+			throw new IllegalArgumentException( "The regular expression must not be null" );
+		}
+		if ( ( flags & ~SUPPORTED_FLAGS ) != 0 ) {
+			throw new PatternSyntaxException( "Unsupported flags " + ( flags & ~SUPPORTED_FLAGS ), regexp, -1 );
+		}
+
+		Node node = new Parser( regexp, flags ).parse();
+		Compiler compiler = new Compiler( regexp );
+		node.compile( compiler );
+		compiler.add( MATCH, 0, 0, null );
+		return new LinearTimePattern( regexp, flags, compiler );
+	}
+
+	/**
+	 * Returns whether the given regular expression can be compiled by this engine.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the bit mask of the flags to compile the expression with
+	 * @return {@code true} if {@link #compile(String, int)} succeeds
+	 */
+	public static boolean isSupported(String regexp, int flags) {
+		try {
+			compile( regexp, flags );
+			return true;
+		}
+		catch (PatternSyntaxException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns whether the entire {@code input} matches this expression, as
+	 * {@link java.util.regex.Matcher#matches()} does.
+	 *
+	 * @param input the character sequence to match
+	 * @return {@code true} if the entire input matches
+	 */
+	public boolean matches(CharSequence input) {
+		int size = operations.length;
+		if ( size > MAX_REUSED_STATE_SIZE ) {
+			return matches( input, new MatchState( size ) );
+		}
+
+		MatchState state = reusableState.getAndSet( null );
+		if ( state == null ) {
+			// first match, or the state is in use by a concurrent or enclosing match
+			state = new MatchState( size );
+		}
+		try {
+			return matches( input, state );
+		}
+		finally {
+			reusableState.set( state );
+		}
+	}
+
+	private boolean matches(CharSequence input, MatchState state) {
+		int[] current = state.current;
+		int[] next = state.next;
+		int[] stack = state.stack;
+		int[] generations = state.generations;
+		int generation = state.nextGeneration();
+
+		int length = input.length();
+		int currentSize = addThread( current, 0, 0, input, 0, stack, generations, generation );
+		int position = 0;
+
+		while ( position < length ) {
+			if ( currentSize == 0 ) {
+				return false;
+			}
+
+			int codePoint = Character.codePointAt( input, position );
+			int nextPosition = position + Character.charCount( codePoint );
+			generation = state.nextGeneration();
+			int nextSize = 0;
+			for ( int i = 0; i < currentSize; i++ ) {
+				int pc = current[i];
+				if ( operations[pc] == CHARACTER && characters[pc].test( codePoint ) ) {
+					nextSize = addThread( next, nextSize, pc + 1, input, nextPosition, stack, generations, generation );
+				}
+			}
+
+			int[] swap = current;
+			current = next;
+			next = swap;
+			currentSize = nextSize;
+			position = nextPosition;
+		}
+
+		for ( int i = 0; i < currentSize; i++ ) {
+			if ( operations[current[i]] == MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the regular expression this pattern was compiled from
+	 */
+	public String pattern() {
+		return regexp;
+	}
+
+	/**
+	 * @return the bit mask of the flags this pattern was compiled with
+	 */
+	public int flags() {
+		return flags;
+	}
+
+	@Override
+	public String toString() {
+		return regexp;
+	}
+
+	/**
+	 * Adds the threads reachable from {@code pc} without consuming input to {@code list}.
+	 */
+	private int addThread(int[] list, int size, int pc, CharSequence input, int position, int[] stack,
+			int[] generations, int generation) {
+		int stackSize = 0;
+		if ( generations[pc] != generation ) {
+			generations[pc] = generation;
+			stack[stackSize++] = pc;
+		}
+
+		while ( stackSize > 0 ) {
+			int current = stack[--stackSize];
+			int following = -1;
+			int alternative = -1;
+			switch ( operations[current] ) {
+				case CHARACTER:
+				case MATCH:
+					list[size++] = current;
+					break;
+				case JUMP:
+					following = targets[current];
+					break;
+				case SPLIT:
+					following = targets[current];
+					alternative = alternativeTargets[current];
+					break;
+				case LINE_START:
+					if ( isLineStart( input, position ) ) {
+						following = current + 1;
+					}
+					break;
+				case LINE_END:
+					if ( isLineEnd( input, position ) ) {
+						following = current + 1;
+					}
+					break;
+				default:
+					throw new IllegalStateException( "Unknown operation " + operations[current] );
+			}
+
+			// the alternative is pushed first, so the preferred branch is processed first
+			if ( alternative >= 0 && generations[alternative] != generation ) {
+				generations[alternative] = generation;
+				stack[stackSize++] = alternative;
+			}
+			if ( following >= 0 && generations[following] != generation ) {
+				generations[following] = generation;
+				stack[stackSize++] = following;
+			}
+		}
+		return size;
+	}
+
+	private boolean isLineStart(CharSequence input, int position) {
+		if ( ( flags & Pattern.MULTILINE ) == 0 ) {
+			return position == 0;
+		}
+		// as java.util.regex, never matches at the end of the input in multiline mode
+		if ( position == input.length() ) {
+			return false;
+		}
+		if ( position == 0 ) {
+			return true;
+		}
+		char previous = input.charAt( position - 1 );
+		if ( previous == '\r' && input.charAt( position ) == '\n' ) {
+			return false;
+		}
+		return isLineTerminator( previous );
+	}
+
+	private boolean isLineEnd(CharSequence input, int position) {
+		int length = input.length();
+		if ( position == length ) {
+			return true;
+		}
+		char current = input.charAt( position );
+		if ( !isLineTerminator( current ) ) {
+			return false;
+		}
+		if ( ( flags & Pattern.MULTILINE ) != 0 ) {
+			return current != '\n' || position == 0 || input.charAt( position - 1 ) != '\r';
+		}
+		// without MULTILINE, only matches before the final line terminator
+		if ( current == '\r' && position + 2 == length && input.charAt( position + 1 ) == '\n' ) {
+			return true;
+		}
+		return position + 1 == length && ( current != '\n' || position == 0 || input.charAt( position - 1 ) != '\r' );
+	}
+
+	private boolean isLineTerminator(int c) {
+		if ( ( flags & Pattern.UNIX_LINES ) != 0 ) {
+			return c == '\n';
+		}
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	/**
+	 * The thread lists of a match, kept by the pattern to be reused by the following matches.
+	 */
+	private static class MatchState {
+
+		private final int[] current;
+		private final int[] next;
+		private final int[] stack;
+		// the generation in which each instruction was last added to a thread list
+		private final int[] generations;
+		private int generation;
+
+		private MatchState(int size) {
+			current = new int[size];
+			next = new int[size];
+			stack = new int[size];
+			generations = new int[size];
+		}
+
+		private int nextGeneration() {
+			if ( generation == Integer.MAX_VALUE ) {
+				Arrays.fill( generations, 0 );
+				generation = 0;
+			}
+			return ++generation;
+		}
+	}
+
+	/**
+	 * A node of the syntax tree of a regular expression.
+	 */
+	private interface Node {
+
+		void compile(Compiler compiler);
+	}
+
+	private static class CharacterNode implements Node {
+
+		private final IntPredicate predicate;
+
+		private CharacterNode(IntPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		public void compile(Compiler compiler) {
+			compiler.add( CHARACTER, 0, 0, predicate );
+		}
+	}
+
+	private static class AssertionNode implements Node {
+
+		private final int operation;
+
+		private AssertionNode(int operation) {
+			this.operation = operation;
+		}
+
+		@Override
+		public void compile(Compiler compiler) {
+			compiler.add( operation, 0, 0, null );
+		}
+	}
+
+	private static class SequenceNode implements Node {
+
+		private final List<Node> nodes;
+
+		private SequenceNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public void compile(Compiler compiler) {
+			for ( Node node : nodes ) {
+				node.compile( compiler );
+			}
+		}
+	}
+
+	private static class AlternationNode implements Node {
+
+		private final List<Node> alternatives;
+
+		private AlternationNode(List<Node> alternatives) {
+			this.alternatives = alternatives;
+		}
+
+		@Override
+		public void compile(Compiler compiler) {
+			List<Integer> jumps = new ArrayList<>();
+			for ( int i = 0; i < alternatives.size() - 1; i++ ) {
+				int split = compiler.add( SPLIT, 0, 0, null );
+				compiler.setTargets( split, split + 1, -1 );
+				alternatives.get( i ).compile( compiler );
+				jumps.add( compiler.add( JUMP, 0, 0, null ) );
+				compiler.setTargets( split, split + 1, compiler.size() );
+			}
+			alternatives.get( alternatives.size() - 1 ).compile( compiler );
+			for ( int jump : jumps ) {
+				compiler.setTargets( jump, compiler.size(), 0 );
+			}
+		}
+	}
+
+	private static class RepetitionNode implements Node {
+
+		private final Node node;
+		private final int min;
+		private final int max;
+
+		/**
+		 * @param max the maximum number of repetitions, {@code -1} if unbounded
+		 */
+		private RepetitionNode(Node node, int min, int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public void compile(Compiler compiler) {
+			for ( int i = 0; i < min; i++ ) {
+				node.compile( compiler );
+			}
+			if ( max < 0 ) {
+				int split = compiler.add( SPLIT, 0, 0, null );
+				node.compile( compiler );
+				compiler.add( JUMP, split, 0, null );
+				compiler.setTargets( split, split + 1, compiler.size() );
+			}
+			else {
+				List<Integer> splits = new ArrayList<>();
+				for ( int i = min; i < max; i++ ) {
+					splits.add( compiler.add( SPLIT, 0, 0, null ) );
+					node.compile( compiler );
+				}
+				for ( int split : splits ) {
+					compiler.setTargets( split, split + 1, compiler.size() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the instructions of the automaton.
+	 */
+	private static class Compiler {
+
+		private final String regexp;
+		private final List<Integer> operations = new ArrayList<>();
+		private final List<Integer> targets = new ArrayList<>();
+		private final List<Integer> alternativeTargets = new ArrayList<>();
+		private final List<IntPredicate> characters = new ArrayList<>();
+
+		private Compiler(String regexp) {
+			this.regexp = regexp;
+		}
+
+		private int add(int operation, int target, int alternativeTarget, IntPredicate character) {
+			if ( operations.size() >= MAX_PROGRAM_SIZE ) {
+				throw new PatternSyntaxException( "The expression is too large", regexp, -1 );
+			}
+			operations.add( operation );
+			targets.add( target );
+			alternativeTargets.add( alternativeTarget );
+			characters.add( character );
+			return operations.size() - 1;
+		}
+
+		private void setTargets(int pc, int target, int alternativeTarget) {
+			targets.set( pc, target );
+			alternativeTargets.set( pc, alternativeTarget );
+		}
+
+		private int size() {
+			return operations.size();
+		}
+	}
+
+	/**
+	 * Parses a regular expression into a syntax tree, by recursive descent.
+	 */
+	private static class Parser {
+
+		private final String regexp;
+		private final int flags;
+		private final Set<String> groupNames = new HashSet<>();
+		private int position;
+
+		private Parser(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+		}
+
+		private Node parse() {
+			Node node = parseAlternation();
+			if ( position < regexp.length() ) {
+				throw error( "Unmatched closing ')'" );
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = new ArrayList<>();
+			alternatives.add( parseSequence() );
+			while ( position < regexp.length() && regexp.charAt( position ) == '|' ) {
+				position++;
+				alternatives.add( parseSequence() );
+			}
+			return alternatives.size() == 1 ? alternatives.get( 0 ) : new AlternationNode( alternatives );
+		}
+
+		private Node parseSequence() {
+			List<Node> nodes = new ArrayList<>();
+			while ( position < regexp.length() ) {
+				char c = regexp.charAt( position );
+				if ( c == '|' || c == ')' ) {
+					break;
+				}
+				if ( c == '\\' && regexp.startsWith( "\\Q", position ) ) {
+					parseQuotation( nodes );
+					continue;
+				}
+				nodes.add( parseQuantifier( parseAtom() ) );
+			}
+			return new SequenceNode( nodes );
+		}
+
+		private void parseQuotation(List<Node> nodes) {
+			position += 2;
+			int end = regexp.indexOf( "\\E", position );
+			String quoted = end < 0 ? regexp.substring( position ) : regexp.substring( position, end );
+			position = end < 0 ? regexp.length() : end + 2;
+			for ( int i = 0; i < quoted.length(); ) {
+				int codePoint = quoted.codePointAt( i );
+				nodes.add( new CharacterNode( single( codePoint ) ) );
+				i += Character.charCount( codePoint );
+			}
+		}
+
+		private Node parseAtom() {
+			char c = regexp.charAt( position );
+			switch ( c ) {
+				case '(':
+					return parseGroup();
+				case '[':
+					return new CharacterNode( parseCharacterClass() );
+				case '.':
+					position++;
+					return new CharacterNode( dot() );
+				case '^':
+					position++;
+					return new AssertionNode( LINE_START );
+				case '$':
+					position++;
+					return new AssertionNode( LINE_END );
+				case '\\':
+					return new CharacterNode( parseEscape( false ) );
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+					throw error( "Dangling meta character '" + c + "'" );
+				default:
+					int codePoint = regexp.codePointAt( position );
+					position += Character.charCount( codePoint );
+					return new CharacterNode( single( codePoint ) );
+			}
+		}
+
+		private Node parseGroup() {
+			position++;
+			if ( regexp.startsWith( "?:", position ) ) {
+				position += 2;
+			}
+			else if ( regexp.startsWith( "?<", position ) && position + 2 < regexp.length()
+					&& Character.isLetter( regexp.charAt( position + 2 ) ) ) {
+				int end = regexp.indexOf( '>', position );
+				if ( end < 0 ) {
+					throw error( "Unterminated group name" );
+				}
+				String groupName = regexp.substring( position + 2, end );
+				if ( !groupName.chars().allMatch( c -> isAsciiLetter( c ) || ( c >= '0' && c <= '9' ) ) ) {
+					throw error( "Illegal group name <" + groupName + ">" );
+				}
+				if ( !groupNames.add( groupName ) ) {
+					throw error( "Named capturing group <" + groupName + "> is already defined" );
+				}
+				position = end + 1;
+			}
+			else if ( position < regexp.length() && regexp.charAt( position ) == '?' ) {
+				throw error( "Lookaround, atomic groups and embedded flags are not supported" );
+			}
+
+			Node node = parseAlternation();
+			if ( position >= regexp.length() || regexp.charAt( position ) != ')' ) {
+				throw error( "Unclosed group" );
+			}
+			position++;
+			return node;
+		}
+
+		private Node parseQuantifier(Node node) {
+			if ( position >= regexp.length() ) {
+				return node;
+			}
+
+			int min;
+			int max;
+			switch ( regexp.charAt( position ) ) {
+				case '*':
+					min = 0;
+					max = -1;
+					position++;
+					break;
+				case '+':
+					min = 1;
+					max = -1;
+					position++;
+					break;
+				case '?':
+					min = 0;
+					max = 1;
+					position++;
+					break;
+				case '{':
+					int end = regexp.indexOf( '}', position );
+					if ( end < 0 ) {
+						throw error( "Unclosed counted closure" );
+					}
+					String[] bounds = regexp.substring( position + 1, end ).split( ",", -1 );
+					try {
+						min = Integer.parseInt( bounds[0] );
+						max = bounds.length == 1 ? min : bounds[1].isEmpty() ? -1 : Integer.parseInt( bounds[1] );
+					}
+					catch (NumberFormatException e) {
+						throw error( "Illegal repetition" );
+					}
+					if ( bounds.length > 2 || min < 0 || ( max >= 0 && max < min ) ) {
+						throw error( "Illegal repetition range" );
+					}
+					if ( min > MAX_PROGRAM_SIZE || max > MAX_PROGRAM_SIZE ) {
+						throw error( "The repetition is too large" );
+					}
+					position = end + 1;
+					break;
+				default:
+					return node;
+			}
+
+			if ( position < regexp.length() ) {
+				if ( regexp.charAt( position ) == '+' ) {
+					throw error( "Possessive quantifiers are not supported" );
+				}
+				// reluctant quantifiers match the same inputs as greedy ones
+				if ( regexp.charAt( position ) == '?' ) {
+					position++;
+				}
+			}
+			return new RepetitionNode( node, min, max );
+		}
+
+		private IntPredicate parseCharacterClass() {
+			position++;
+			boolean negated = false;
+			if ( position < regexp.length() && regexp.charAt( position ) == '^' ) {
+				negated = true;
+				position++;
+			}
+
+			IntPredicate predicate = c -> false;
+			boolean first = true;
+			while ( true ) {
+				if ( position >= regexp.length() ) {
+					throw error( "Unclosed character class" );
+				}
+				char c = regexp.charAt( position );
+				if ( c == ']' && !first ) {
+					position++;
+					break;
+				}
+				if ( c == '[' || regexp.startsWith( "&&", position ) ) {
+					throw error( "Unions and intersections of character classes are not supported" );
+				}
+				first = false;
+
+				IntPredicate item;
+				if ( c == '\\' && position + 1 < regexp.length() && "dDsSwW".indexOf( regexp.charAt( position + 1 ) ) >= 0 ) {
+					item = parseEscape( true );
+				}
+				else {
+					int from = parseClassCharacter();
+					item = single( from );
+					if ( position + 1 < regexp.length() && regexp.charAt( position ) == '-'
+							&& regexp.charAt( position + 1 ) != ']' ) {
+						position++;
+						int to = parseClassCharacter();
+						if ( to < from ) {
+							throw error( "Illegal character range" );
+						}
+						item = caseInsensitiveRange( from, to );
+					}
+				}
+				predicate = predicate.or( item );
+			}
+			// case folding applies to the members of the class, before the negation
+			return negated ? predicate.negate() : predicate;
+		}
+
+		/**
+		 * Parses a single character of a character class, escaped or not.
+		 */
+		private int parseClassCharacter() {
+			if ( regexp.charAt( position ) == '\\' ) {
+				position++;
+				if ( position >= regexp.length() ) {
+					throw error( "Unexpected end of expression" );
+				}
+				return parseEscapedCharacter();
+			}
+			int codePoint = regexp.codePointAt( position );
+			position += Character.charCount( codePoint );
+			return codePoint;
+		}
+
+		private IntPredicate parseEscape(boolean inCharacterClass) {
+			position++;
+			if ( position >= regexp.length() ) {
+				throw error( "Unexpected end of expression" );
+			}
+			char c = regexp.charAt( position );
+			switch ( c ) {
+				case 'd':
+					position++;
+					return range( '0', '9' );
+				case 'D':
+					position++;
+					return range( '0', '9' ).negate();
+				case 's':
+					position++;
+					return LinearTimePattern::isWhitespace;
+				case 'S':
+					position++;
+					return ( (IntPredicate) LinearTimePattern::isWhitespace ).negate();
+				case 'w':
+					position++;
+					return LinearTimePattern::isWordCharacter;
+				case 'W':
+					position++;
+					return ( (IntPredicate) LinearTimePattern::isWordCharacter ).negate();
+				default:
+					if ( c >= '1' && c <= '9' && !inCharacterClass || c == 'k' ) {
+						throw error( "Back references are not supported" );
+					}
+					return single( parseEscapedCharacter() );
+			}
+		}
+
+		/**
+		 * Parses the escaped character following a backslash.
+		 */
+		private int parseEscapedCharacter() {
+			char c = regexp.charAt( position++ );
+			switch ( c ) {
+				case 't':
+					return '\t';
+				case 'n':
+					return '\n';
+				case 'r':
+					return '\r';
+				case 'f':
+					return '\f';
+				case 'a':
+					return '\u0007';
+				case 'e':
+					return '\u001B';
+				case 'x':
+					if ( position < regexp.length() && regexp.charAt( position ) == '{' ) {
+						throw error( "Unsupported escape sequence \\x{h...h}" );
+					}
+					return parseHexadecimal( 2 );
+				case 'u':
+					return parseHexadecimal( 4 );
+				default:
+					if ( Character.isLetterOrDigit( c ) ) {
+						throw error( "Unsupported escape sequence \\" + c );
+					}
+					return c;
+			}
+		}
+
+		private int parseHexadecimal(int digits) {
+			if ( position + digits > regexp.length() ) {
+				throw error( "Illegal hexadecimal escape sequence" );
+			}
+			try {
+				int value = Integer.parseInt( regexp.substring( position, position + digits ), 16 );
+				position += digits;
+				return value;
+			}
+			catch (NumberFormatException e) {
+				throw error( "Illegal hexadecimal escape sequence" );
+			}
+		}
+
+		private IntPredicate dot() {
+			if ( ( flags & Pattern.DOTALL ) != 0 ) {
+				return c -> true;
+			}
+			if ( ( flags & Pattern.UNIX_LINES ) != 0 ) {
+				return c -> c != '\n';
+			}
+			return c -> c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029';
+		}
+
+		/**
+		 * Matches the given character, folding the case as {@link Pattern} does: with
+		 * {@code UNICODE_CASE}, both the expression and the input characters are folded via
+		 * {@code toLowerCase( toUpperCase( c ) )}, otherwise only ASCII letters are folded.
+		 */
+		private IntPredicate single(int codePoint) {
+			if ( ( flags & Pattern.CASE_INSENSITIVE ) != 0 ) {
+				if ( ( flags & Pattern.UNICODE_CASE ) != 0 ) {
+					int upper = Character.toUpperCase( codePoint );
+					int lower = Character.toLowerCase( upper );
+					if ( upper != lower ) {
+						return c -> c == lower || Character.toLowerCase( Character.toUpperCase( c ) ) == lower;
+					}
+				}
+				else if ( isAsciiLetter( codePoint ) ) {
+					int lower = toAsciiLowerCase( codePoint );
+					int upper = toAsciiUpperCase( codePoint );
+					return c -> c == lower || c == upper;
+				}
+			}
+			return literal( codePoint );
+		}
+
+		/**
+		 * Matches the characters of the given range, folding the case as {@link Pattern} does.
+		 */
+		private IntPredicate caseInsensitiveRange(int from, int to) {
+			IntPredicate range = range( from, to );
+			if ( ( flags & Pattern.CASE_INSENSITIVE ) == 0 ) {
+				return range;
+			}
+			if ( ( flags & Pattern.UNICODE_CASE ) != 0 ) {
+				return c -> {
+					if ( range.test( c ) ) {
+						return true;
+					}
+					int upper = Character.toUpperCase( c );
+					return range.test( upper ) || range.test( Character.toLowerCase( upper ) );
+				};
+			}
+			return c -> range.test( c )
+					|| ( c < 128 && ( range.test( toAsciiUpperCase( c ) ) || range.test( toAsciiLowerCase( c ) ) ) );
+		}
+
+		private PatternSyntaxException error(String description) {
+			return new PatternSyntaxException( description, regexp, position );
+		}
+	}
+
+	private static IntPredicate literal(int codePoint) {
+		return c -> c == codePoint;
+	}
+
+	private static IntPredicate range(int from, int to) {
+		return c -> c >= from && c <= to;
+	}
+
+	private static boolean isAsciiLetter(int c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	private static int toAsciiLowerCase(int c) {
+		return c >= 'A' && c <= 'Z' ? c - 'A' + 'a' : c;
+	}
+
+	private static int toAsciiUpperCase(int c) {
+		return c >= 'a' && c <= 'z' ? c - 'a' + 'A' : c;
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isWordCharacter(int c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' ) || c == '_';
+	}
+}
@@ -0,0 +1,596 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable {@link Path} represented as a persistent linked list of nodes.
+ * <p>
+ * Each path references its parent path and its leaf node only. Appending a node creates
+ * a new path sharing the original path as prefix, so the paths of sibling elements, e.g.
+ * {@code order.items[0].price} and {@code order.items[1].price}, share the nodes of
+ * their common prefix instead of copying them.
+ * <p>
+ * The string representation of a path is computed when {@link #toString()} is first
+ * invoked, and cached.
+ * <p>
+ * Bean Validation providers may use this class to represent the paths of the
+ * {@link ConstraintViolation}s they create:
+ * <pre>
+ * Path path = LinkedPath.root()
+ *     .addPropertyNode( "items" )
+ *     .addPropertyNode( "price" ).atIndex( 3 );
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @since 2.1
+ */
+public final class LinkedPath implements Path, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final LinkedPath ROOT = new LinkedPath( null, null );
+
+	private final LinkedPath parent;
+	private final PathNode leafNode;
+	private final int size;
+	private transient volatile String string;
+
+	private LinkedPath(LinkedPath parent, PathNode leafNode) {
+		this.parent = parent;
+		this.leafNode = leafNode;
+		this.size = parent == null ? 0 : parent.size + 1;
+	}
+
+	/**
+	 * @return the empty path, e.g. the path of a constraint hosted on the root bean
+	 */
+	public static LinkedPath root() {
+		return ROOT;
+	}
+
+	/**
+	 * Parses the string representation of a property path, e.g. {@code items[3].price}.
+	 * <p>
+	 * The path is a sequence of property names separated by dots. A property name may be
+	 * followed by an index, e.g. {@code [3]}, a map key, e.g. {@code [EUR]}, or an empty
+	 * pair of brackets for an element of an {@code Iterable} without index. Following the
+	 * conventions of {@link Path.Node#isInIterable()}, this information is carried by the
+	 * next node of the path, a bean node if the brackets end the path.
+	 * <p>
+	 * The returned path may be reused for any number of validations, e.g. via
+	 * {@link Validator#validatePropertyPath(Object, Path, Class[])}; this allows providers
+	 * to resolve it once.
+	 *
+	 * @param path the string representation of the path, the empty string
+	 *        representing the root path
+	 * @return the parsed path
+	 * @throws IllegalArgumentException if {@code path} is {@code null} or is not a
+	 *         valid property path
+	 *
+	 * @see #toString()
+	 */
+	public static LinkedPath parse(String path) {
+		if ( path == null ) {
+			throw new IllegalArgumentException( "The path must not be null" );
+		}
+
+		LinkedPath parsed = ROOT;
+		boolean pendingIterable = false;
+		Integer pendingIndex = null;
+		String pendingKey = null;
+		int position = 0;
+		int length = path.length();
+
+		while ( position < length ) {
+			if ( position > 0 ) {
+				if ( path.charAt( position ) != '.' ) {
+					throw invalidPath( path, position );
+				}
+				position++;
+			}
+
+			int nameStart = position;
+			if ( position >= length || !Character.isJavaIdentifierStart( path.charAt( position ) ) ) {
+				throw invalidPath( path, position );
+			}
+			position++;
+			while ( position < length && Character.isJavaIdentifierPart( path.charAt( position ) ) ) {
+				position++;
+			}
+
+			parsed = parsed.addPropertyNode( path.substring( nameStart, position ) );
+			if ( pendingIterable ) {
+				parsed = parsed.withIterableInformation( pendingIndex, pendingKey );
+			}
+			pendingIterable = false;
+			pendingIndex = null;
+			pendingKey = null;
+
+			if ( position < length && path.charAt( position ) == '[' ) {
+				int closingBracket = path.indexOf( ']', position );
+				if ( closingBracket < 0 ) {
+					throw invalidPath( path, position );
+				}
+				String indexOrKey = path.substring( position + 1, closingBracket );
+				pendingIterable = true;
+				if ( isIndex( indexOrKey ) ) {
+					pendingIndex = Integer.valueOf( indexOrKey );
+				}
+				else if ( !indexOrKey.isEmpty() ) {
+					pendingKey = indexOrKey;
+				}
+				position = closingBracket + 1;
+			}
+		}
+
+		if ( pendingIterable ) {
+			parsed = parsed.addBeanNode().withIterableInformation( pendingIndex, pendingKey );
+		}
+		return parsed;
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a property node.
+	 *
+	 * @param name the name of the property
+	 * @return the new path
+	 * @throws IllegalArgumentException if {@code name} is {@code null}
+	 */
+	public LinkedPath addPropertyNode(String name) {
+		requireName( name );
+		return append( new PathNode( ElementKind.PROPERTY, name, false, null, null, null, null, null, -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a bean node.
+	 *
+	 * @return the new path
+	 */
+	public LinkedPath addBeanNode() {
+		return append( new PathNode( ElementKind.BEAN, null, false, null, null, null, null, null, -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a container element node.
+	 *
+	 * @param name the name of the container element
+	 * @param containerClass the type of the container
+	 * @param typeArgumentIndex the index of the type argument of the container
+	 * @return the new path
+	 * @throws IllegalArgumentException if {@code name} is {@code null}
+	 */
+	public LinkedPath addContainerElementNode(String name, Class<?> containerClass, Integer typeArgumentIndex) {
+		requireName( name );
+		return append( new PathNode( ElementKind.CONTAINER_ELEMENT, name, false, null, null, containerClass,
+				typeArgumentIndex, null, -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a method node.
+	 *
+	 * @param name the name of the method
+	 * @param parameterTypes the parameter types of the method
+	 * @return the new path
+	 * @throws IllegalArgumentException if {@code name} or {@code parameterTypes} is {@code null}
+	 */
+	public LinkedPath addMethodNode(String name, List<Class<?>> parameterTypes) {
+		requireName( name );
+		return append( new PathNode( ElementKind.METHOD, name, false, null, null, null, null,
+				requireParameterTypes( parameterTypes ), -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a constructor node.
+	 *
+	 * @param name the name of the constructor
+	 * @param parameterTypes the parameter types of the constructor
+	 * @return the new path
+	 * @throws IllegalArgumentException if {@code name} or {@code parameterTypes} is {@code null}
+	 */
+	public LinkedPath addConstructorNode(String name, List<Class<?>> parameterTypes) {
+		requireName( name );
+		return append( new PathNode( ElementKind.CONSTRUCTOR, name, false, null, null, null, null,
+				requireParameterTypes( parameterTypes ), -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a parameter node.
+	 *
+	 * @param name the name of the parameter
+	 * @param parameterIndex the index of the parameter
+	 * @return the new path
+	 * @throws IllegalArgumentException if {@code name} is {@code null}
+	 */
+	public LinkedPath addParameterNode(String name, int parameterIndex) {
+		requireName( name );
+		return append( new PathNode( ElementKind.PARAMETER, name, false, null, null, null, null, null, parameterIndex ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a cross-parameter node.
+	 *
+	 * @return the new path
+	 */
+	public LinkedPath addCrossParameterNode() {
+		return append( new PathNode( ElementKind.CROSS_PARAMETER, "<cross-parameter>", false, null, null, null, null,
+				null, -1 ) );
+	}
+
+	/**
+	 * Returns a path made of the nodes of this path followed by a return value node.
+	 *
+	 * @return the new path
+	 */
+	public LinkedPath addReturnValueNode() {
+		return append( new PathNode( ElementKind.RETURN_VALUE, "<return value>", false, null, null, null, null, null,
+				-1 ) );
+	}
+
+	/**
+	 * Returns a path whose leaf node is marked as contained in an {@code Iterable} or
+	 * {@code Map}, without index or key.
+	 *
+	 * @return the new path, sharing the parent of this path
+	 * @throws IllegalStateException if this path is empty
+	 */
+	public LinkedPath inIterable() {
+		return withIterableInformation( null, null );
+	}
+
+	/**
+	 * Returns a path whose leaf node is marked as contained in an indexed {@code Iterable}
+	 * at the given index.
+	 *
+	 * @param index the index of the leaf node in the {@code Iterable}
+	 * @return the new path, sharing the parent of this path
+	 * @throws IllegalStateException if this path is empty
+	 */
+	public LinkedPath atIndex(int index) {
+		return withIterableInformation( index, null );
+	}
+
+	/**
+	 * Returns a path whose leaf node is marked as contained in a {@code Map} under the
+	 * given key.
+	 *
+	 * @param key the key of the leaf node in the {@code Map}
+	 * @return the new path, sharing the parent of this path
+	 * @throws IllegalStateException if this path is empty
+	 */
+	public LinkedPath atKey(Object key) {
+		return withIterableInformation( null, key );
+	}
+
+	/**
+	 * @return the path made of all the nodes of this path but the leaf node or
+	 *         {@code null} if this path is empty
+	 */
+	public LinkedPath getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return the last node of this path or {@code null} if this path is empty
+	 */
+	public Node getLeafNode() {
+		return leafNode;
+	}
+
+	/**
+	 * @return the number of nodes of this path
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<Node> iterator() {
+		Node[] nodes = new Node[size];
+		LinkedPath path = this;
+		for ( int i = size - 1; i >= 0; i-- ) {
+			nodes[i] = path.leafNode;
+			path = path.parent;
+		}
+		return new NodeIterator( nodes );
+	}
+
+	@Override
+	public String toString() {
+		String string = this.string;
+		if ( string == null ) {
+			string = render( this );
+			this.string = string;
+		}
+		return string;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( !( obj instanceof LinkedPath ) ) {
+			return false;
+		}
+		LinkedPath other = (LinkedPath) obj;
+		LinkedPath path = this;
+		if ( size != other.size ) {
+			return false;
+		}
+		while ( path != other ) {
+			if ( !path.leafNode.equals( other.leafNode ) ) {
+				return false;
+			}
+			path = path.parent;
+			other = other.parent;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for ( LinkedPath path = this; path.parent != null; path = path.parent ) {
+			hashCode = 31 * hashCode + path.leafNode.hashCode();
+		}
+		return hashCode;
+	}
+
+	/**
+	 * Renders the property path represented by the nodes of the given path, in the format
+	 * accepted by {@link #parse(String)}, e.g. {@code items[3].price}.
+	 * <p>
+	 * Unlike {@link Path#toString()}, the result doesn't depend on the implementation of
+	 * {@code path}.
+	 *
+	 * @param path the path to render
+	 * @return the property path
+	 */
+	static String toPropertyPath(Path path) {
+		if ( path instanceof LinkedPath ) {
+			return path.toString();
+		}
+		return render( path );
+	}
+
+	private static String render(Path path) {
+		StringBuilder builder = new StringBuilder();
+		for ( Node node : path ) {
+			appendNode( builder, node );
+		}
+		return builder.toString();
+	}
+
+	private static void appendNode(StringBuilder builder, Node node) {
+		if ( node.isInIterable() ) {
+			builder.append( '[' );
+			if ( node.getIndex() != null ) {
+				builder.append( node.getIndex() );
+			}
+			else if ( node.getKey() != null ) {
+				builder.append( node.getKey() );
+			}
+			builder.append( ']' );
+		}
+		if ( node.getName() != null ) {
+			if ( builder.length() > 0 ) {
+				builder.append( '.' );
+			}
+			builder.append( node.getName() );
+		}
+	}
+
+	private LinkedPath append(PathNode node) {
+		return new LinkedPath( this, node );
+	}
+
+	private LinkedPath withIterableInformation(Integer index, Object key) {
+		if ( leafNode == null ) {
+			throw new IllegalStateException( "The root path has no leaf node" );
+		}
+		return parent.append( leafNode.withIterableInformation( index, key ) );
+	}
+
+	private Object readResolve() {
+		return parent == null ? ROOT : this;
+	}
+
+	private static boolean isIndex(String indexOrKey) {
+		if ( indexOrKey.isEmpty() || indexOrKey.length() > 9 ) {
+			return false;
+		}
+		for ( int i = 0; i < indexOrKey.length(); i++ ) {
+			char c = indexOrKey.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static IllegalArgumentException invalidPath(String path, int position) {
+		return new IllegalArgumentException( "Invalid property path '" + path + "' at position " + position );
+	}
+
+	private static void requireName(String name) {
+		if ( name == null ) {
+			throw new IllegalArgumentException( "The name of the node must not be null" );
+		}
+	}
+
+	private static List<Class<?>> requireParameterTypes(List<Class<?>> parameterTypes) {
+		if ( parameterTypes == null ) {
+			throw new IllegalArgumentException( "The parameter types must not be null" );
+		}
+		return Collections.unmodifiableList( Arrays.asList( parameterTypes.toArray( new Class<?>[parameterTypes.size()] ) ) );
+	}
+
+	private static class NodeIterator implements Iterator<Node> {
+
+		private final Node[] nodes;
+		private int index;
+
+		private NodeIterator(Node[] nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < nodes.length;
+		}
+
+		@Override
+		public Node next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return nodes[index++];
+		}
+	}
+
+	/**
+	 * The nodes of a {@code LinkedPath}, implementing the node type of each {@link ElementKind}.
+	 */
+	private static final class PathNode implements PropertyNode, BeanNode, ContainerElementNode, MethodNode,
+			ConstructorNode, ParameterNode, ReturnValueNode, CrossParameterNode, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ElementKind kind;
+		private final String name;
+		private final boolean inIterable;
+		private final Integer index;
+		private final Object key;
+		private final Class<?> containerClass;
+		private final Integer typeArgumentIndex;
+		private final List<Class<?>> parameterTypes;
+		private final int parameterIndex;
+		private final int hashCode;
+
+		private PathNode(ElementKind kind, String name, boolean inIterable, Integer index, Object key,
+				Class<?> containerClass, Integer typeArgumentIndex, List<Class<?>> parameterTypes, int parameterIndex) {
+			this.kind = kind;
+			this.name = name;
+			this.inIterable = inIterable;
+			this.index = index;
+			this.key = key;
+			this.containerClass = containerClass;
+			this.typeArgumentIndex = typeArgumentIndex;
+			this.parameterTypes = parameterTypes;
+			this.parameterIndex = parameterIndex;
+			this.hashCode = Objects.hash( kind, name, inIterable, index, key, containerClass, typeArgumentIndex,
+					parameterTypes, parameterIndex );
+		}
+
+		private PathNode withIterableInformation(Integer index, Object key) {
+			return new PathNode( kind, name, true, index, key, containerClass, typeArgumentIndex, parameterTypes,
+					parameterIndex );
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public boolean isInIterable() {
+			return inIterable;
+		}
+
+		@Override
+		public Integer getIndex() {
+			return index;
+		}
+
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public ElementKind getKind() {
+			return kind;
+		}
+
+		@Override
+		public <T extends Node> T as(Class<T> nodeType) {
+			if ( ( kind == ElementKind.PROPERTY && nodeType == PropertyNode.class )
+					|| ( kind == ElementKind.BEAN && nodeType == BeanNode.class )
+					|| ( kind == ElementKind.CONTAINER_ELEMENT && nodeType == ContainerElementNode.class )
+					|| ( kind == ElementKind.METHOD && nodeType == MethodNode.class )
+					|| ( kind == ElementKind.CONSTRUCTOR && nodeType == ConstructorNode.class )
+					|| ( kind == ElementKind.PARAMETER && nodeType == ParameterNode.class )
+					|| ( kind == ElementKind.CROSS_PARAMETER && nodeType == CrossParameterNode.class )
+					|| ( kind == ElementKind.RETURN_VALUE && nodeType == ReturnValueNode.class )
+					|| nodeType == Node.class ) {
+				return nodeType.cast( this );
+			}
+			throw new ClassCastException( "Unable to narrow a node of kind " + kind + " to " + nodeType.getName() );
+		}
+
+		@Override
+		public Class<?> getContainerClass() {
+			return containerClass;
+		}
+
+		@Override
+		public Integer getTypeArgumentIndex() {
+			return typeArgumentIndex;
+		}
+
+		@Override
+		public List<Class<?>> getParameterTypes() {
+			return parameterTypes;
+		}
+
+		@Override
+		public int getParameterIndex() {
+			return parameterIndex;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !( obj instanceof PathNode ) ) {
+				return false;
+			}
+			PathNode other = (PathNode) obj;
+			return kind == other.kind
+					&& inIterable == other.inIterable
+					&& parameterIndex == other.parameterIndex
+					&& Objects.equals( name, other.name )
+					&& Objects.equals( index, other.index )
+					&& Objects.equals( key, other.key )
+					&& containerClass == other.containerClass
+					&& Objects.equals( typeArgumentIndex, other.typeArgumentIndex )
+					&& Objects.equals( parameterTypes, other.parameterTypes );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			appendNode( builder, this );
+			return builder.toString();
+		}
+	}
+}
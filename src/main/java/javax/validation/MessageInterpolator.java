@@ -15,6 +15,10 @@ import javax.validation.metadata.ConstraintDescriptor;
  * <p>
  * Implementations should be as tolerant as possible on syntax errors.
  * Implementations must be thread-safe.
+ * <p>
+ * Bean Validation providers may defer the interpolation until
+ * {@link ConstraintViolation#getMessage()} is invoked. They then capture the locale
+ * when validating and pass it to {@link #interpolate(String, Context, Locale)}.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -46,8 +50,106 @@ public interface MessageInterpolator {
 	 */
 	String interpolate(String messageTemplate, Context context,  Locale locale);
 
+	/**
+	 * Compiles the message template for the given locale into a form which can be
+	 * interpolated repeatedly, without parsing the template again.
+	 * <p>
+	 * Implementations are encouraged to resolve the message parameters and to parse the
+	 * expressions of the template once, so interpolating the compiled template only has
+	 * to read the values of the {@link Context}.
+	 * <p>
+	 * The default implementation returns a template delegating to
+	 * {@link #interpolate(String, Context, Locale)}.
+	 *
+	 * @param messageTemplate the message to compile
+	 * @param locale the locale targeted for the message
+	 *
+	 * @return the compiled template
+	 *
+	 * @see CachingMessageInterpolator
+	 * @since 2.1
+	 */
+	default CompiledTemplate compile(String messageTemplate, Locale locale) {
+		return context -> interpolate( messageTemplate, context, locale );
+	}
+
+	/**
+	 * Returns a message interpolator bound to the given locale: its
+	 * {@link #interpolate(String, Context)} method interpolates messages for
+	 * {@code locale} instead of the default locale of this interpolator.
+	 * <p>
+	 * Bean Validation providers invoke this method once when a {@link Validator} is
+	 * created for a locale, see {@link ValidatorContext#locale(Locale)}.
+	 * Implementations are encouraged to resolve everything depending on the locale,
+	 * e.g. the resource bundles, when this method is invoked, so it does not need to be
+	 * looked up again for each interpolated message.
+	 * <p>
+	 * The default implementation returns an interpolator delegating to
+	 * {@link #interpolate(String, Context, Locale)} with the given locale.
+	 *
+	 * @param locale the locale targeted for the messages
+	 *
+	 * @return a message interpolator bound to {@code locale}
+	 * @throws IllegalArgumentException if {@code locale} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default MessageInterpolator forLocale(Locale locale) {
+		if ( locale == null ) {
+			throw new IllegalArgumentException( "The locale must not be null" );
+		}
+
+		MessageInterpolator delegate = this;
+		return new MessageInterpolator() {
+
+			@Override
+			public String interpolate(String messageTemplate, Context context) {
+				return delegate.interpolate( messageTemplate, context, locale );
+			}
+
+			@Override
+			public String interpolate(String messageTemplate, Context context, Locale locale) {
+				return delegate.interpolate( messageTemplate, context, locale );
+			}
+
+			@Override
+			public CompiledTemplate compile(String messageTemplate, Locale locale) {
+				return delegate.compile( messageTemplate, locale );
+			}
+
+			@Override
+			public MessageInterpolator forLocale(Locale locale) {
+				return delegate.forLocale( locale );
+			}
+		};
+	}
+
+	/**
+	 * A message template compiled for a given locale by
+	 * {@link MessageInterpolator#compile(String, Locale)}.
+	 * <p>
+	 * Implementations must be thread-safe.
+	 *
+	 * @since 2.1
+	 */
+	@FunctionalInterface
+	interface CompiledTemplate {
+
+		/**
+		 * Interpolates the compiled template based on the constraint validation context.
+		 *
+		 * @param context contextual information related to the interpolation
+		 *
+		 * @return interpolated error message
+		 */
+		String interpolate(Context context);
+	}
+
 	/**
 	 * Information related to the interpolation context.
+	 * <p>
+	 * If the interpolation is deferred, the context exposes the state captured when the
+	 * constraint violation was created.
 	 */
 	interface Context {
 		/**
@@ -0,0 +1,178 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link ConstraintValidatorFactory} recycling the constraint validator instances
+ * released by the Bean Validation provider, instead of requesting new ones from the
+ * decorated factory each time.
+ * <p>
+ * This is useful when the decorated factory is expensive, e.g. when it creates a managed
+ * bean of a dependency injection container for each instance:
+ * <pre>
+ * Configuration&lt;?&gt; configuration = Validation.byDefaultProvider().configure();
+ * ValidatorFactory factory = configuration
+ *     .constraintValidatorFactory( new PoolingConstraintValidatorFactory( diContainerFactory, 64 ) )
+ *     .buildValidatorFactory();
+ * </pre>
+ * <p>
+ * The released instances are pooled per constraint validator class; each pool holds at
+ * most the given number of instances, spread over several independently locked stripes
+ * so concurrent threads rarely contend. Instances released while the pool is full are
+ * released to the decorated factory, as are instances whose class is not the class they
+ * were requested for, e.g. proxies.
+ * <p>
+ * Following the contract of {@link ConstraintValidatorFactory}, the provider initializes
+ * each instance it obtains, whether it was recycled or not, and uses it for a single
+ * constraint until releasing it.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 2.1
+ */
+public class PoolingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+	private static final int MAX_STRIPE_COUNT = 16;
+
+	private final ConstraintValidatorFactory delegate;
+	private final int maxPooledInstances;
+	private final ConcurrentMap<Class<?>, Pool> pools = new ConcurrentHashMap<>();
+	private volatile boolean closed;
+
+	/**
+	 * @param delegate the factory creating and finally releasing the instances
+	 * @param maxPooledInstances the maximum number of instances pooled per constraint
+	 *        validator class
+	 * @throws IllegalArgumentException if {@code delegate} is {@code null} or if
+	 *         {@code maxPooledInstances} is lower than 1
+	 */
+	public PoolingConstraintValidatorFactory(ConstraintValidatorFactory delegate, int maxPooledInstances) {
+		if ( delegate == null ) {
+			throw new IllegalArgumentException( "The delegate must not be null" );
+		}
+		if ( maxPooledInstances < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of pooled instances must be at least 1" );
+		}
+		this.delegate = delegate;
+		this.maxPooledInstances = maxPooledInstances;
+	}
+
+	@Override
+	public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+		Object instance = pools.computeIfAbsent( key, k -> new Pool( maxPooledInstances ) ).poll();
+		if ( instance != null ) {
+			return key.cast( instance );
+		}
+		return delegate.getInstance( key );
+	}
+
+	@Override
+	public void releaseInstance(ConstraintValidator<?, ?> instance) {
+		Pool pool = closed ? null : pools.get( instance.getClass() );
+		if ( pool == null || !pool.offer( instance ) ) {
+			delegate.releaseInstance( instance );
+		}
+		else if ( closed ) {
+			// closed concurrently, the instance may have been pooled after the pool was drained
+			drain( pool );
+		}
+	}
+
+	/**
+	 * Releases all the pooled instances to the decorated factory. The instances released
+	 * afterwards are directly released to the decorated factory.
+	 * <p>
+	 * Typically invoked once the {@link ValidatorFactory} using this factory has been
+	 * closed.
+	 */
+	public void close() {
+		closed = true;
+		for ( Pool pool : pools.values() ) {
+			drain( pool );
+		}
+	}
+
+	/**
+	 * @return the decorated factory
+	 */
+	public ConstraintValidatorFactory getDelegate() {
+		return delegate;
+	}
+
+	private void drain(Pool pool) {
+		ConstraintValidator<?, ?> instance;
+		while ( ( instance = pool.poll() ) != null ) {
+			delegate.releaseInstance( instance );
+		}
+	}
+
+	/**
+	 * The released instances of a constraint validator class.
+	 */
+	private static class Pool {
+
+		private final Stripe[] stripes;
+
+		private Pool(int maxPooledInstances) {
+			int stripeCount = Math.min( MAX_STRIPE_COUNT, maxPooledInstances );
+			this.stripes = new Stripe[stripeCount];
+			for ( int i = 0; i < stripeCount; i++ ) {
+				// spread the remainder over the first stripes, so the capacities add up to the maximum
+				stripes[i] = new Stripe( maxPooledInstances / stripeCount + ( i < maxPooledInstances % stripeCount ? 1 : 0 ) );
+			}
+		}
+
+		/**
+		 * Takes an instance from the stripe of the current thread, then from the other stripes.
+		 */
+		private ConstraintValidator<?, ?> poll() {
+			int start = stripeIndex();
+			for ( int i = 0; i < stripes.length; i++ ) {
+				ConstraintValidator<?, ?> instance = stripes[( start + i ) % stripes.length].poll();
+				if ( instance != null ) {
+					return instance;
+				}
+			}
+			return null;
+		}
+
+		private boolean offer(ConstraintValidator<?, ?> instance) {
+			return stripes[stripeIndex()].offer( instance );
+		}
+
+		private int stripeIndex() {
+			return (int) ( Thread.currentThread().getId() % stripes.length );
+		}
+	}
+
+	private static class Stripe {
+
+		private final ArrayDeque<ConstraintValidator<?, ?>> instances;
+		private final int capacity;
+
+		private Stripe(int capacity) {
+			this.instances = new ArrayDeque<>( capacity );
+			this.capacity = capacity;
+		}
+
+		private synchronized ConstraintValidator<?, ?> poll() {
+			return instances.pollLast();
+		}
+
+		private synchronized boolean offer(ConstraintValidator<?, ?> instance) {
+			if ( instances.size() >= capacity ) {
+				return false;
+			}
+			instances.addLast( instance );
+			return true;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+/**
+ * The engines evaluating the regular expressions of
+ * {@link javax.validation.constraints.Pattern} and {@link javax.validation.constraints.Email}
+ * constraints.
+ *
+ * @see Configuration#regexpEngine(RegexpEngine)
+ * @since 2.1
+ */
+public enum RegexpEngine {
+
+	/**
+	 * The backtracking engine of {@link java.util.regex.Pattern}, supporting its whole
+	 * syntax. Some expressions take time exponential in the length of the input.
+	 */
+	BACKTRACKING,
+
+	/**
+	 * The engine of {@link LinearTimePattern}, taking time linear in the length of the
+	 * input. Expressions using constructs it doesn't support, e.g. back references, are
+	 * rejected.
+	 */
+	LINEAR_TIME
+}
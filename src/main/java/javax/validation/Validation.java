@@ -6,15 +6,21 @@
  */
 package javax.validation;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ServiceConfigurationError;
-import java.util.ServiceLoader;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.bootstrap.GenericBootstrap;
 import javax.validation.bootstrap.ProviderSpecificBootstrap;
@@ -92,6 +98,9 @@ public class Validation {
 	 * <p>
 	 * The code is semantically equivalent to
 	 * {@code Validation.byDefaultProvider().configure().buildValidatorFactory()}.
+	 * <p>
+	 * Each invocation builds a new factory; use
+	 * {@link ValidatorFactoryRegistry#getDefaultValidatorFactory()} to share it instead.
 	 *
 	 * @return {@code ValidatorFactory} instance
 	 *
@@ -225,12 +234,24 @@ public class Validation {
 			catch ( RuntimeException re ) {
 				throw new ValidationException( "Unable to get available provider resolvers.", re );
 			}
+			// hand the resolved providers down, so the provider does not need to invoke the resolver again
+			state.validationProviders( resolvers );
 
-			for ( ValidationProvider<?> provider : resolvers ) {
-				if ( validationProviderClass.isAssignableFrom( provider.getClass() ) ) {
+			// lazily resolved providers are matched by type, so only the requested provider gets instantiated
+			if ( resolvers instanceof LazyValidationProviderList ) {
+				ValidationProvider<?> provider = ( (LazyValidationProviderList) resolvers ).findProvider( validationProviderClass );
+				if ( provider != null ) {
 					ValidationProvider<T> specificProvider = validationProviderClass.cast( provider );
 					return specificProvider.createSpecializedConfiguration( state );
+				}
+			}
+			else {
+				for ( ValidationProvider<?> provider : resolvers ) {
+					if ( validationProviderClass.isAssignableFrom( provider.getClass() ) ) {
+						ValidationProvider<T> specificProvider = validationProviderClass.cast( provider );
+						return specificProvider.createSpecializedConfiguration( state );
 
+					}
 				}
 			}
 			throw new ValidationException( "Unable to find provider: " + validationProviderClass );
@@ -246,10 +267,12 @@ public class Validation {
 
 		private ValidationProviderResolver resolver;
 		private ValidationProviderResolver defaultResolver;
+		private List<ValidationProvider<?>> validationProviders;
 
 		@Override
 		public GenericBootstrap providerResolver(ValidationProviderResolver resolver) {
 			this.resolver = resolver;
+			this.validationProviders = null;
 			return this;
 		}
 
@@ -266,8 +289,40 @@ public class Validation {
 			return defaultResolver;
 		}
 
+		@Override
+		public List<ValidationProvider<?>> getValidationProviders() {
+			if ( validationProviders == null ) {
+				validationProviders = resolveValidationProviders();
+			}
+			return validationProviders;
+		}
+
 		@Override
 		public Configuration<?> configure() {
+			List<ValidationProvider<?>> validationProviders = getValidationProviders();
+
+			if ( validationProviders.isEmpty() ) {
+				String msg = "Unable to create a Configuration, because no Bean Validation provider could be found." +
+						" Add a provider like Hibernate Validator (RI) to your classpath.";
+				throw new NoProviderFoundException( msg );
+			}
+
+			Configuration<?> config;
+			try {
+				config = validationProviders.get( 0 ).createGenericConfiguration( this );
+			}
+			catch ( RuntimeException re ) {
+				throw new ValidationException( "Unable to instantiate Configuration.", re );
+			}
+
+			return config;
+		}
+
+		private void validationProviders(List<ValidationProvider<?>> validationProviders) {
+			this.validationProviders = validationProviders;
+		}
+
+		private List<ValidationProvider<?>> resolveValidationProviders() {
 			ValidationProviderResolver resolver = this.resolver == null ?
 					getDefaultValidationProviderResolver() :
 					this.resolver;
@@ -285,21 +340,7 @@ public class Validation {
 				throw new ValidationException( "Unable to get available provider resolvers.", re );
 			}
 
-			if ( validationProviders.isEmpty() ) {
-				String msg = "Unable to create a Configuration, because no Bean Validation provider could be found." +
-						" Add a provider like Hibernate Validator (RI) to your classpath.";
-				throw new NoProviderFoundException( msg );
-			}
-
-			Configuration<?> config;
-			try {
-				config = resolver.getValidationProviders().get( 0 ).createGenericConfiguration( this );
-			}
-			catch ( RuntimeException re ) {
-				throw new ValidationException( "Unable to instantiate Configuration.", re );
-			}
-
-			return config;
+			return validationProviders;
 		}
 	}
 
@@ -309,6 +350,10 @@ public class Validation {
 	 * If no suitable provider is found using the aforementioned class loader, it uses current class loader.
 	 * If it still does not find any suitable provider, it tries to locate the built-in provider using the current
 	 * class loader.
+	 * <p>
+	 * If a class loader exposes a {@code META-INF/validation-provider-index} resource, the providers listed in
+	 * there are used instead of the ones listed in the service files; they are only instantiated when retrieved
+	 * from the returned list. On Java 9 and later, this also applies to the providers listed in the service files.
 	 *
 	 * @author Emmanuel Bernard
 	 * @author Hardy Ferentschik
@@ -325,12 +370,17 @@ public class Validation {
 
 		private final static GetValidationProviderListAction INSTANCE = new GetValidationProviderListAction();
 
+		private static final String PROVIDER_INDEX = "META-INF/validation-provider-index";
+
 		//cache per classloader for an appropriate discovery
-		//keep them in a weak hash map to avoid memory leaks and allow proper hot redeployment
-		private final WeakHashMap<ClassLoader, SoftReference<List<ValidationProvider<?>>>> providersPerClassloader =
-				new WeakHashMap<>();
+		//keys are weakly referenced to avoid memory leaks and allow proper hot redeployment; keys of collected
+		//classloaders are expunged via the reference queue, so readers never have to acquire a global lock
+		private final ConcurrentMap<ClassLoaderKey, CachedValidationProviders> providersPerClassloader =
+				new ConcurrentHashMap<>();
+
+		private final ReferenceQueue<ClassLoader> collectedClassloaders = new ReferenceQueue<>();
 
-		public static synchronized List<ValidationProvider<?>> getValidationProviderList() {
+		public static List<ValidationProvider<?>> getValidationProviderList() {
 			if ( System.getSecurityManager() != null ) {
 				return AccessController.doPrivileged( INSTANCE );
 			}
@@ -339,65 +389,196 @@ public class Validation {
 			}
 		}
 
-		public static synchronized void clearCache() {
+		public static void clearCache() {
 			INSTANCE.providersPerClassloader.clear();
 		}
 
 		@Override
 		public List<ValidationProvider<?>> run() {
-			// Option #1: try first context class loader
-			ClassLoader classloader = Thread.currentThread().getContextClassLoader();
-			List<ValidationProvider<?>> cachedContextClassLoaderProviderList = getCachedValidationProviders( classloader );
-			if ( cachedContextClassLoaderProviderList != null ) {
-				// if already processed return the cached provider list
-				return cachedContextClassLoaderProviderList;
-			}
+			expungeCollectedClassloaders();
 
-			List<ValidationProvider<?>> validationProviderList = loadProviders( classloader );
+			// Option #1: try first context class loader
+			List<ValidationProvider<?>> validationProviderList = getValidationProviders(
+					Thread.currentThread().getContextClassLoader()
+			);
 
 			// Option #2: if we cannot find any service files with the context class loader use the current class loader
 			if ( validationProviderList.isEmpty() ) {
-				classloader = DefaultValidationProviderResolver.class.getClassLoader();
-				List<ValidationProvider<?>> cachedCurrentClassLoaderProviderList = getCachedValidationProviders(
-						classloader
+				validationProviderList = getValidationProviders( DefaultValidationProviderResolver.class.getClassLoader() );
+			}
+
+			return validationProviderList;
+		}
+
+		private List<ValidationProvider<?>> getValidationProviders(ClassLoader classloader) {
+			// the service loader falls back to the system class loader as well, null cannot be weakly referenced
+			if ( classloader == null ) {
+				classloader = ClassLoader.getSystemClassLoader();
+			}
+
+			CachedValidationProviders cachedProviders = providersPerClassloader.get( new ClassLoaderKey( classloader ) );
+			if ( cachedProviders == null ) {
+				CachedValidationProviders newCachedProviders = new CachedValidationProviders();
+				cachedProviders = providersPerClassloader.putIfAbsent(
+						new ClassLoaderKey( classloader, collectedClassloaders ),
+						newCachedProviders
 				);
-				if ( cachedCurrentClassLoaderProviderList != null ) {
-					// if already processed return the cached provider list
-					return cachedCurrentClassLoaderProviderList;
+				if ( cachedProviders == null ) {
+					cachedProviders = newCachedProviders;
 				}
-				validationProviderList = loadProviders( classloader );
 			}
 
-			// cache the detected providers against the classloader in which they were found
-			cacheValidationProviders( classloader, validationProviderList );
+			return cachedProviders.get( classloader );
+		}
 
-			return validationProviderList;
+		private void expungeCollectedClassloaders() {
+			Reference<? extends ClassLoader> collectedKey;
+			while ( ( collectedKey = collectedClassloaders.poll() ) != null ) {
+				providersPerClassloader.remove( collectedKey );
+			}
 		}
 
-		private List<ValidationProvider<?>> loadProviders(ClassLoader classloader) {
-			ServiceLoader<ValidationProvider> loader = ServiceLoader.load( ValidationProvider.class, classloader );
-			Iterator<ValidationProvider> providerIterator = loader.iterator();
-			List<ValidationProvider<?>> validationProviderList = new ArrayList<>();
-			while ( providerIterator.hasNext() ) {
-				try {
-					validationProviderList.add( providerIterator.next() );
+		private static List<ValidationProvider<?>> loadProviders(ClassLoader classloader) {
+			List<String> indexedProviderNames = loadProviderIndex( classloader );
+			if ( indexedProviderNames != null ) {
+				List<IndexedProviderReference> providerReferences = new ArrayList<>( indexedProviderNames.size() );
+				for ( String providerName : indexedProviderNames ) {
+					providerReferences.add( new IndexedProviderReference( providerName, classloader ) );
 				}
-				catch ( ServiceConfigurationError e ) {
-					// ignore, because it can happen when multiple
-					// providers are present and some of them are not class loader
-					// compatible with our API.
+				return new LazyValidationProviderList( providerReferences );
+			}
+
+			return ValidationProviderLoader.loadProviders( classloader );
+		}
+
+		private static List<String> loadProviderIndex(ClassLoader classloader) {
+			URL index = classloader.getResource( PROVIDER_INDEX );
+			if ( index == null ) {
+				return null;
+			}
+
+			List<String> providerNames = new ArrayList<>();
+			try ( BufferedReader reader = new BufferedReader(
+					new InputStreamReader( index.openStream(), StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					int commentStart = line.indexOf( '#' );
+					if ( commentStart >= 0 ) {
+						line = line.substring( 0, commentStart );
+					}
+					line = line.trim();
+					if ( !line.isEmpty() && !providerNames.contains( line ) ) {
+						providerNames.add( line );
+					}
 				}
 			}
-			return validationProviderList;
+			catch ( IOException e ) {
+				throw new ValidationException( "Unable to read the provider index " + index, e );
+			}
+			return providerNames;
 		}
 
-		private synchronized List<ValidationProvider<?>> getCachedValidationProviders(ClassLoader classLoader) {
-			SoftReference<List<ValidationProvider<?>>> ref = providersPerClassloader.get( classLoader );
-			return ref != null ? ref.get() : null;
+		/**
+		 * The providers detected for a single classloader. The list is softly referenced, so it can be
+		 * reclaimed under memory pressure; it is (re-)loaded at most once at a time per classloader.
+		 */
+		private static class CachedValidationProviders {
+
+			private volatile SoftReference<List<ValidationProvider<?>>> providers;
+
+			private List<ValidationProvider<?>> get(ClassLoader classloader) {
+				List<ValidationProvider<?>> validationProviderList = dereference();
+				if ( validationProviderList != null ) {
+					return validationProviderList;
+				}
+
+				// concurrent callers for the same classloader wait for a single service loader scan
+				synchronized ( this ) {
+					validationProviderList = dereference();
+					if ( validationProviderList == null ) {
+						validationProviderList = loadProviders( classloader );
+						providers = new SoftReference<>( validationProviderList );
+					}
+					return validationProviderList;
+				}
+			}
+
+			private List<ValidationProvider<?>> dereference() {
+				SoftReference<List<ValidationProvider<?>>> ref = providers;
+				return ref != null ? ref.get() : null;
+			}
 		}
 
-		private synchronized void cacheValidationProviders(ClassLoader classLoader, List<ValidationProvider<?>> providers) {
-			providersPerClassloader.put( classLoader, new SoftReference<>( providers ) );
+		/**
+		 * Weakly references a classloader and compares by identity of the referenced classloader.
+		 */
+		private static class ClassLoaderKey extends WeakReference<ClassLoader> {
+
+			private final int hashCode;
+
+			private ClassLoaderKey(ClassLoader classloader) {
+				super( classloader );
+				this.hashCode = System.identityHashCode( classloader );
+			}
+
+			private ClassLoaderKey(ClassLoader classloader, ReferenceQueue<ClassLoader> queue) {
+				super( classloader, queue );
+				this.hashCode = System.identityHashCode( classloader );
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+				if ( this == obj ) {
+					return true;
+				}
+				if ( !( obj instanceof ClassLoaderKey ) ) {
+					return false;
+				}
+				ClassLoader classloader = get();
+				return classloader != null && classloader == ( (ClassLoaderKey) obj ).get();
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+		}
+	}
+
+	/**
+	 * A provider listed in a provider index, its type is loaded when it is first needed.
+	 */
+	private static class IndexedProviderReference implements LazyValidationProviderList.ProviderReference {
+
+		private final String className;
+		private final ClassLoader classloader;
+		private volatile Class<? extends ValidationProvider<?>> type;
+
+		private IndexedProviderReference(String className, ClassLoader classloader) {
+			this.className = className;
+			this.classloader = classloader;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Class<? extends ValidationProvider<?>> type() {
+			Class<? extends ValidationProvider<?>> type = this.type;
+			if ( type == null ) {
+				try {
+					type = (Class<? extends ValidationProvider<?>>) Class.forName( className, false, classloader )
+							.asSubclass( ValidationProvider.class );
+				}
+				catch (ClassNotFoundException | ClassCastException | LinkageError e) {
+					throw new ValidationException( "Unable to load indexed provider type: " + className, e );
+				}
+				this.type = type;
+			}
+			return type;
+		}
+
+		@Override
+		public ValidationProvider<?> get() {
+			return NewProviderInstance.action( type() ).run();
 		}
 	}
 
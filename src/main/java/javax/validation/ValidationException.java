@@ -27,4 +27,23 @@ public class ValidationException extends RuntimeException {
 	public ValidationException(Throwable cause) {
 		super( cause );
 	}
+
+	/**
+	 * Creates an exception, optionally without suppression and without stack trace.
+	 * <p>
+	 * Filling in the stack trace is the main cost of creating an exception; exceptions
+	 * thrown at a high rate, e.g. to reject invalid requests, may skip it.
+	 *
+	 * @param message the detail message
+	 * @param cause the cause
+	 * @param enableSuppression whether or not suppression is enabled
+	 * @param writableStackTrace whether or not the stack trace is filled in and writable
+	 *
+	 * @see RuntimeException#RuntimeException(String, Throwable, boolean, boolean)
+	 * @since 2.1
+	 */
+	protected ValidationException(String message, Throwable cause, boolean enableSuppression,
+			boolean writableStackTrace) {
+		super( message, cause, enableSuppression, writableStackTrace );
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import javax.validation.spi.ValidationProvider;
+
+/**
+ * Loads the {@link ValidationProvider}s registered via the service loader mechanism.
+ * <p>
+ * This implementation has to instantiate all the providers to discover them. On Java 9 and
+ * later, the multi-release variant of this class discovers the provider types without
+ * instantiating them and returns a {@link LazyValidationProviderList}.
+ * <p>
+ * Not a public API.
+ */
+final class ValidationProviderLoader {
+
+	private ValidationProviderLoader() {
+	}
+
+	static List<ValidationProvider<?>> loadProviders(ClassLoader classloader) {
+		ServiceLoader<ValidationProvider> loader = ServiceLoader.load( ValidationProvider.class, classloader );
+		Iterator<ValidationProvider> providerIterator = loader.iterator();
+		List<ValidationProvider<?>> validationProviderList = new ArrayList<>();
+		while ( providerIterator.hasNext() ) {
+			try {
+				validationProviderList.add( providerIterator.next() );
+			}
+			catch ( ServiceConfigurationError e ) {
+				// ignore, because it can happen when multiple
+				// providers are present and some of them are not class loader
+				// compatible with our API.
+			}
+		}
+		return validationProviderList;
+	}
+}
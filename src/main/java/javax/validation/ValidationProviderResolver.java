@@ -21,6 +21,12 @@ import javax.validation.spi.ValidationProvider;
  * Each {@code META-INF/services/javax.validation.spi.ValidationProvider} file contains the
  * list of {@link ValidationProvider} implementations each of them representing a provider.
  * <p>
+ * Alternatively, a {@code META-INF/validation-provider-index} file can be generated at build
+ * time. It uses the same format as the service files and lists the fully qualified names of the
+ * {@code ValidationProvider} implementations, the default provider first. If such an index is
+ * present, the default {@code ValidationProviderResolver} uses it instead of scanning the service
+ * files and only instantiates a provider once it is retrieved from the returned list.
+ * <p>
  * Implementations must be thread-safe.
  *
  * @author Emmanuel Bernard
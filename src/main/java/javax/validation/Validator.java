@@ -6,7 +6,20 @@
  */
 package javax.validation;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import javax.validation.executable.ExecutableValidator;
 import javax.validation.groups.Default;
@@ -37,6 +50,138 @@ public interface Validator {
 	 */
 	<T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups);
 
+	/**
+	 * Validates all constraints on {@code object} asynchronously, using the given
+	 * {@code executor}.
+	 * <p>
+	 * This allows to keep threads which must not block, e.g. event loop threads, free
+	 * while a deep object graph gets validated. Any executor can be used, for instance
+	 * one running each task in a virtual thread on Java versions providing them.
+	 * <p>
+	 * Constraints validated by an {@link AsyncConstraintValidator} don't occupy a thread
+	 * of the executor while waiting for the completion of
+	 * {@link AsyncConstraintValidator#isValidAsync(Object, ConstraintValidatorContext)},
+	 * provided the Bean Validation provider supports asynchronous constraint validators.
+	 * <p>
+	 * The default implementation invokes {@link #validate(Object, Class[])} in a task
+	 * submitted to {@code executor}.
+	 *
+	 * @param object object to validate
+	 * @param executor the executor running the validation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return a stage completed with the constraint violations or an empty set if none;
+	 *         it is completed exceptionally with the exception raised by the validation,
+	 *         if any
+	 * @throws IllegalArgumentException if {@code object} or {@code executor} is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 *
+	 * @since 2.1
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateAsync(T object,
+																		  Executor executor,
+																		  Class<?>... groups) {
+		if ( object == null ) {
+			throw new IllegalArgumentException( "The object to validate must not be null" );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		return CompletableFuture.supplyAsync( () -> validate( object, groups ), executor );
+	}
+
+	/**
+	 * Validates all constraints on each of the given {@code objects}.
+	 * <p>
+	 * The objects are expected to be of the same type, which allows the provider to
+	 * resolve the groups and the bean metadata once for the whole batch instead of once
+	 * per object.
+	 * <p>
+	 * The default implementation invokes {@link #validate(Object, Class[])} for each
+	 * object.
+	 *
+	 * @param objects objects to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @return the constraint violations of each invalid object, keyed by the position of
+	 *         the object in {@code objects} and iterated in ascending order of the positions;
+	 *         an empty map if all objects are valid
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, if it contains
+	 *         a {@code null} element or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects,
+																	 Class<?>... groups) {
+		if ( objects == null ) {
+			throw new IllegalArgumentException( "The objects to validate must not be null" );
+		}
+
+		Map<Integer, Set<ConstraintViolation<T>>> violationsPerObject = new LinkedHashMap<>();
+		int index = 0;
+		for ( T object : objects ) {
+			Set<ConstraintViolation<T>> violations = validate( object, groups );
+			if ( !violations.isEmpty() ) {
+				violationsPerObject.put( index, violations );
+			}
+			index++;
+		}
+		return violationsPerObject;
+	}
+
+	/**
+	 * Validates all constraints on each of the given {@code objects}, splitting the
+	 * objects in chunks validated in parallel by tasks submitted to the given
+	 * {@code executor}.
+	 * <p>
+	 * The result is the same as the one of {@link #validateAll(Iterable, Class[])}. This
+	 * method blocks until all chunks have been validated.
+	 * <p>
+	 * As several objects are validated concurrently, the {@link ConstraintValidator},
+	 * {@link MessageInterpolator} and {@link TraversableResolver} instances used by this
+	 * validator are invoked from several threads at the same time. Their contracts
+	 * already require them to be thread-safe; in particular, a constraint validator must
+	 * not keep any state depending on the validated value. The validated objects must not
+	 * be modified until this method returns.
+	 * <p>
+	 * The objects are split in chunks as described in
+	 * {@link #validateAllInto(List, Executor, ObjIntConsumer, Class[])}. The default
+	 * implementation invokes this method and collects the violations per position.
+	 *
+	 * @param objects objects to validate
+	 * @param executor the executor running the validation tasks
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @return the constraint violations of each invalid object, keyed by the position of
+	 *         the object in {@code objects} and iterated in ascending order of the positions;
+	 *         an empty map if all objects are valid
+	 * @throws IllegalArgumentException if {@code objects} or {@code executor} is {@code null},
+	 *         if {@code objects} contains a {@code null} element or if {@code null} is passed
+	 *         to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(List<? extends T> objects,
+																	 Executor executor,
+																	 Class<?>... groups) {
+		// the violations of an object are all reported by the task validating its chunk
+		Map<Integer, Set<ConstraintViolation<T>>> violationsPerObject = new ConcurrentSkipListMap<>();
+		this.<T>validateAllInto(
+				objects,
+				executor,
+				(violation, index) -> violationsPerObject.computeIfAbsent( index, k -> new HashSet<>() ).add( violation ),
+				groups
+		);
+		return violationsPerObject;
+	}
+
 	/**
 	 * Validates all constraints placed on the property of {@code object}
 	 * named {@code propertyName}.
@@ -83,6 +228,368 @@ public interface Validator {
 												  Object value,
 												  Class<?>... groups);
 
+	/**
+	 * Validates all constraints placed on the property of {@code object}
+	 * identified by {@code propertyPath}.
+	 * <p>
+	 * The path is typically obtained once via {@link LinkedPath#parse(String)} and reused
+	 * for each validation of the property, which allows the provider to resolve the
+	 * property and its metadata once instead of parsing a property name on each call.
+	 * <p>
+	 * The default implementation invokes {@link #validateProperty(Object, String, Class[])}
+	 * with the property path rendered from the nodes of {@code propertyPath}, e.g.
+	 * {@code items[3].price}.
+	 *
+	 * @param object object to validate
+	 * @param propertyPath path of the property to validate (i.e. field and getter constraints)
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code object} is {@code null},
+	 *         if {@code propertyPath} is {@code null}, empty or not a valid object property
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> Set<ConstraintViolation<T>> validatePropertyPath(T object,
+																 Path propertyPath,
+																 Class<?>... groups) {
+		if ( propertyPath == null ) {
+			throw new IllegalArgumentException( "The property path must not be null" );
+		}
+		return validateProperty( object, LinkedPath.toPropertyPath( propertyPath ), groups );
+	}
+
+	/**
+	 * Validates all constraints placed on the property identified by {@code propertyPath}
+	 * of the class {@code beanType} would the property value be {@code value}.
+	 * <p>
+	 * The path is typically obtained once via {@link LinkedPath#parse(String)} and reused
+	 * for each validation of the property, which allows the provider to resolve the
+	 * property and its metadata once instead of parsing a property name on each call.
+	 * <p>
+	 * The default implementation invokes {@link #validateValue(Class, String, Object, Class[])}
+	 * with the property path rendered from the nodes of {@code propertyPath}, e.g.
+	 * {@code items[3].price}.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyPath path of the property to validate
+	 * @param value property value to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default}).
+	 * @param <T> the type of the object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null},
+	 *         if {@code propertyPath} is {@code null}, empty or not a valid object property
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> Set<ConstraintViolation<T>> validateValuePath(Class<T> beanType,
+															  Path propertyPath,
+															  Object value,
+															  Class<?>... groups) {
+		if ( propertyPath == null ) {
+			throw new IllegalArgumentException( "The property path must not be null" );
+		}
+		return validateValue( beanType, LinkedPath.toPropertyPath( propertyPath ), value, groups );
+	}
+
+	/**
+	 * Validates all constraints on {@code object}, passing each constraint violation to
+	 * the given {@code sink} as soon as it is found.
+	 * <p>
+	 * Unlike {@link #validate(Object, Class[])}, this method doesn't require the provider
+	 * to collect the violations into a set, which is useful if they are directly mapped
+	 * to another representation.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validate(Object, Class[])} to {@code sink}.
+	 *
+	 * @param object object to validate
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @throws IllegalArgumentException if {@code object} or {@code sink} is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateInto(T object, Consumer<? super ConstraintViolation<T>> sink, Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validate( object, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all constraints placed on the property of {@code object}
+	 * named {@code propertyName}, passing each constraint violation to the given
+	 * {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateProperty(Object, String, Class[])} to {@code sink}.
+	 *
+	 * @param object object to validate
+	 * @param propertyName property to validate (i.e. field and getter constraints)
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @throws IllegalArgumentException if {@code object} is {@code null},
+	 *         if {@code propertyName} is {@code null}, empty or not a valid object property,
+	 *         if {@code sink} is {@code null} or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validatePropertyInto(T object,
+										  String propertyName,
+										  Consumer<? super ConstraintViolation<T>> sink,
+										  Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validateProperty( object, propertyName, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all constraints placed on the property named {@code propertyName}
+	 * of the class {@code beanType} would the property value be {@code value}, passing
+	 * each constraint violation to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateValue(Class, String, Object, Class[])} to {@code sink}.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyName property to validate
+	 * @param value property value to validate
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default}).
+	 * @param <T> the type of the object to validate
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null},
+	 *         if {@code propertyName} is {@code null}, empty or not a valid object property,
+	 *         if {@code sink} is {@code null} or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateValueInto(Class<T> beanType,
+									   String propertyName,
+									   Object value,
+									   Consumer<? super ConstraintViolation<T>> sink,
+									   Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validateValue( beanType, propertyName, value, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all constraints on each of the given {@code objects}, passing each
+	 * constraint violation together with the position of the invalid object in
+	 * {@code objects} to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation invokes
+	 * {@link #validateInto(Object, Consumer, Class[])} for each object.
+	 *
+	 * @param objects objects to validate
+	 * @param sink receives each constraint violation and the position of the invalid object
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @throws IllegalArgumentException if {@code objects} or {@code sink} is {@code null},
+	 *         if {@code objects} contains a {@code null} element or if {@code null} is passed
+	 *         to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @see #validateAll(Iterable, Class[])
+	 * @since 2.1
+	 */
+	default <T> void validateAllInto(Iterable<? extends T> objects,
+									 ObjIntConsumer<? super ConstraintViolation<T>> sink,
+									 Class<?>... groups) {
+		if ( objects == null ) {
+			throw new IllegalArgumentException( "The objects to validate must not be null" );
+		}
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+
+		int index = 0;
+		for ( T object : objects ) {
+			int objectIndex = index;
+			this.<T>validateInto( object, violation -> sink.accept( violation, objectIndex ), groups );
+			index++;
+		}
+	}
+
+	/**
+	 * Validates all constraints on each of the given {@code objects} in parallel, passing
+	 * each constraint violation together with the position of the invalid object in
+	 * {@code objects} to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The objects are split in chunks validated by tasks submitted to the given
+	 * {@code executor}; this method blocks until all chunks have been validated. If
+	 * {@code executor} is a {@link ForkJoinPool}, the number of chunks matches its
+	 * parallelism, otherwise the number of available processors. As the chunks are validated
+	 * concurrently, {@code sink} is invoked from several threads at the same time and must be
+	 * thread-safe; the violations of a given object are all passed by the same thread.
+	 * <p>
+	 * The same concurrency requirements as for {@link #validateAll(List, Executor, Class[])}
+	 * apply.
+	 *
+	 * @param objects objects to validate
+	 * @param executor the executor running the validation tasks
+	 * @param sink receives each constraint violation and the position of the invalid object
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @throws IllegalArgumentException if {@code objects}, {@code executor} or {@code sink}
+	 *         is {@code null}, if {@code objects} contains a {@code null} element or if
+	 *         {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateAllInto(List<? extends T> objects,
+									 Executor executor,
+									 ObjIntConsumer<? super ConstraintViolation<T>> sink,
+									 Class<?>... groups) {
+		if ( objects == null ) {
+			throw new IllegalArgumentException( "The objects to validate must not be null" );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+
+		int parallelism = executor instanceof ForkJoinPool ?
+				( (ForkJoinPool) executor ).getParallelism() :
+				Runtime.getRuntime().availableProcessors();
+		int chunkSize = Math.max( 1, ( objects.size() + parallelism - 1 ) / parallelism );
+
+		List<CompletableFuture<Void>> chunks = new ArrayList<>();
+		for ( int chunkStart = 0; chunkStart < objects.size(); chunkStart += chunkSize ) {
+			int offset = chunkStart;
+			List<? extends T> chunk = objects.subList( chunkStart, Math.min( chunkStart + chunkSize, objects.size() ) );
+			chunks.add( CompletableFuture.runAsync(
+					() -> this.<T>validateAllInto( chunk, (violation, index) -> sink.accept( violation, offset + index ), groups ),
+					executor
+			) );
+		}
+
+		try {
+			CompletableFuture.allOf( chunks.toArray( new CompletableFuture<?>[chunks.size()] ) ).join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new ValidationException( e.getCause() );
+		}
+	}
+
+	/**
+	 * Checks whether {@code object} satisfies all its constraints.
+	 * <p>
+	 * Unlike {@link #validate(Object, Class[])}, this method only answers whether the
+	 * object is valid: providers are expected to stop at the first failing constraint,
+	 * without interpolating any message, building any {@link Path} or creating any
+	 * {@link ConstraintViolation}. Validating a valid object should not allocate.
+	 * <p>
+	 * The default implementation checks whether {@link #validate(Object, Class[])}
+	 * returns an empty set.
+	 *
+	 * @param object object to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if {@code object} satisfies all its constraints
+	 * @throws IllegalArgumentException if object is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default boolean isValid(Object object, Class<?>... groups) {
+		return validate( object, groups ).isEmpty();
+	}
+
+	/**
+	 * Checks whether the property of {@code object} named {@code propertyName} satisfies
+	 * all its constraints.
+	 * <p>
+	 * Like {@link #isValid(Object, Class[])}, providers are expected to stop at the first
+	 * failing constraint without creating any {@link ConstraintViolation}.
+	 * <p>
+	 * The default implementation checks whether
+	 * {@link #validateProperty(Object, String, Class[])} returns an empty set.
+	 *
+	 * @param object object to validate
+	 * @param propertyName property to validate (i.e. field and getter constraints)
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if the property satisfies all its constraints
+	 * @throws IllegalArgumentException if {@code object} is {@code null},
+	 *         if {@code propertyName} is {@code null}, empty or not a valid object property
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default boolean isValidProperty(Object object, String propertyName, Class<?>... groups) {
+		return validateProperty( object, propertyName, groups ).isEmpty();
+	}
+
+	/**
+	 * Checks whether the property named {@code propertyName} of the class
+	 * {@code beanType} would satisfy all its constraints would the property value be
+	 * {@code value}.
+	 * <p>
+	 * Like {@link #isValid(Object, Class[])}, providers are expected to stop at the first
+	 * failing constraint without creating any {@link ConstraintViolation}.
+	 * <p>
+	 * The default implementation checks whether
+	 * {@link #validateValue(Class, String, Object, Class[])} returns an empty set.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyName property to validate
+	 * @param value property value to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default}).
+	 * @return {@code true} if the value satisfies all the constraints of the property
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null},
+	 *         if {@code propertyName} is {@code null}, empty or not a valid object property
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @since 2.1
+	 */
+	default boolean isValidValue(Class<?> beanType, String propertyName, Object value, Class<?>... groups) {
+		return validateValue( beanType, propertyName, value, groups ).isEmpty();
+	}
+
 	/**
 	 * Returns the descriptor object describing bean constraints.
 	 * <p>
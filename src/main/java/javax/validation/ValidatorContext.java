@@ -6,6 +6,8 @@
  */
 package javax.validation;
 
+import java.util.Locale;
+
 import javax.validation.valueextraction.ValueExtractor;
 import javax.validation.valueextraction.ValueExtractorDeclarationException;
 
@@ -102,6 +104,66 @@ public interface ValidatorContext {
 	 */
 	ValidatorContext addValueExtractor(ValueExtractor<?> extractor);
 
+	/**
+	 * Defines the maximum number of constraint violations reported by a single validation
+	 * of the {@link Validator}.
+	 * <p>
+	 * Once that many violations are found, the validation stops without evaluating the
+	 * remaining constraints and cascades. Passing {@code 1} enables a fail-fast mode
+	 * stopping at the first violation. As the validation stops early, which violations are
+	 * reported is unspecified.
+	 * <p>
+	 * If not set, the maximum defined via {@link Configuration#maxViolationCount(int)}
+	 * is used, otherwise all violations are reported.
+	 * <p>
+	 * The default implementation throws an {@link UnsupportedOperationException}, as it
+	 * cannot stop the validation early.
+	 *
+	 * @param maxViolationCount the maximum number of reported violations
+	 * @return self following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code maxViolationCount} is lower than {@code 1}
+	 * @throws UnsupportedOperationException if the Bean Validation provider does not support
+	 *         setting the maximum number of reported violations
+	 *
+	 * @since 2.1
+	 */
+	default ValidatorContext maxViolationCount(int maxViolationCount) {
+		if ( maxViolationCount < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of violations must be at least 1" );
+		}
+		throw new UnsupportedOperationException( "Setting the maximum number of violations is not supported by this ValidatorContext" );
+	}
+
+	/**
+	 * Defines the locale of the messages of the constraint violations reported by the
+	 * {@link Validator}.
+	 * <p>
+	 * The message interpolator used by the {@code Validator} is resolved once for this
+	 * locale via {@link MessageInterpolator#forLocale(Locale)}, so the locale does not
+	 * need to be passed along, e.g. via a thread-local variable, and the resources
+	 * depending on it are not looked up again for each message.
+	 * <p>
+	 * If not set or if {@code null} is passed as a parameter, the messages are
+	 * interpolated via {@link MessageInterpolator#interpolate(String, MessageInterpolator.Context)},
+	 * i.e. for the default locale of the message interpolator.
+	 * <p>
+	 * The default implementation accepts {@code null} and throws an
+	 * {@link UnsupportedOperationException} for any other locale, as it cannot honor it.
+	 *
+	 * @param locale the locale of the messages, may be {@code null}
+	 * @return self following the chaining method pattern
+	 * @throws UnsupportedOperationException if the Bean Validation provider does not support
+	 *         setting the locale
+	 *
+	 * @since 2.1
+	 */
+	default ValidatorContext locale(Locale locale) {
+		if ( locale == null ) {
+			return this;
+		}
+		throw new UnsupportedOperationException( "Setting the locale is not supported by this ValidatorContext" );
+	}
+
 	/**
 	 * Returns an initialized {@link Validator} instance respecting the defined state.
 	 * {@code Validator} instances can be pooled and shared by the implementation.
@@ -6,6 +6,15 @@
  */
 package javax.validation;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.validation.metadata.BeanDescriptor;
+
 /**
  * Factory returning initialized {@code Validator} instances.
  * <p>
@@ -87,6 +96,78 @@ public interface ValidatorFactory extends AutoCloseable {
 	 */
 	ClockProvider getClockProvider();
 
+	/**
+	 * Eagerly initializes the metadata of the given bean classes, so the first validation
+	 * of their instances does not pay for it.
+	 * <p>
+	 * For each bean class, the provider builds its {@link BeanDescriptor} and should
+	 * initialize the {@link ConstraintValidator} instances of its constraints. The bean
+	 * classes are processed in parallel by tasks submitted to the given {@code executor}.
+	 * <p>
+	 * The default implementation retrieves the {@code BeanDescriptor} of each bean class
+	 * via {@link Validator#getConstraintsForClass(Class)} of {@link #getValidator()}.
+	 * Providers are encouraged to override it to also resolve the constraint validators.
+	 *
+	 * @param beanClasses the bean classes to initialize
+	 * @param executor the executor running the initialization tasks
+	 * @return a stage completed once all the bean classes are initialized; it is completed
+	 *         exceptionally with the exception raised by the bean class whose initialization
+	 *         failed first, if any
+	 * @throws IllegalArgumentException if {@code beanClasses} or {@code executor} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default CompletionStage<Void> warmUp(Collection<? extends Class<?>> beanClasses, Executor executor) {
+		if ( beanClasses == null ) {
+			throw new IllegalArgumentException( "The bean classes must not be null" );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+
+		Validator validator = getValidator();
+		AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+		CompletableFuture<?>[] initializations = beanClasses.stream()
+				.map( beanClass -> CompletableFuture.runAsync( () -> validator.getConstraintsForClass( beanClass ), executor )
+						.whenComplete( (result, failure) -> {
+							if ( failure != null ) {
+								firstFailure.compareAndSet( null, failure instanceof CompletionException && failure.getCause() != null
+										? failure.getCause()
+										: failure );
+							}
+						} ) )
+				.toArray( CompletableFuture<?>[]::new );
+
+		// allOf() doesn't tell which of the failures it reports, so report the first one
+		CompletableFuture<Void> warmUp = new CompletableFuture<>();
+		CompletableFuture.allOf( initializations ).whenComplete( (result, failure) -> {
+			if ( firstFailure.get() != null ) {
+				warmUp.completeExceptionally( firstFailure.get() );
+			}
+			else {
+				warmUp.complete( null );
+			}
+		} );
+		return warmUp;
+	}
+
+	/**
+	 * Returns the cache of the regular expressions compiled for the
+	 * {@link javax.validation.constraints.Pattern} and {@link javax.validation.constraints.Email}
+	 * constraints validated by this factory.
+	 * <p>
+	 * The default implementation returns the cache shared by all the factories, see
+	 * {@link CompiledPatternCache#getDefault()}. Providers are encouraged to override it with
+	 * a cache of their own, released when the factory is closed.
+	 *
+	 * @return the compiled pattern cache
+	 *
+	 * @since 2.1
+	 */
+	default CompiledPatternCache getCompiledPatternCache() {
+		return CompiledPatternCache.getDefault();
+	}
+
 	/**
 	 * Returns an instance of the specified type allowing access to
 	 * provider-specific APIs. If the Bean Validation provider
@@ -0,0 +1,388 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.validation.spi.ConfigurationState;
+
+/**
+ * Shares {@link ValidatorFactory} instances between independent consumers of the same
+ * configuration.
+ * <p>
+ * Libraries and frameworks each bootstrapping Bean Validation with the same configuration
+ * would otherwise create several identical factories, each of them with its own metadata.
+ * The registry instead returns a handle on a shared factory:
+ * <pre>
+ * ValidatorFactory factory = ValidatorFactoryRegistry.getDefaultValidatorFactory();
+ * try {
+ *     Validator validator = factory.getValidator();
+ *     // ...
+ * }
+ * finally {
+ *     factory.close();
+ * }
+ * </pre>
+ * Every returned handle must be closed once it is not needed anymore. The shared factory is
+ * closed when the last handle on it gets closed; calling methods of a closed handle is not
+ * allowed.
+ * <p>
+ * Two configurations share a factory if they are of the same type, if they are requested
+ * with the same thread context class loader, if their {@link ConfigurationState}s expose
+ * equal state, i.e. the state explicitly set on the configuration and its properties, and,
+ * unless the XML configuration is ignored, if their {@link BootstrapConfiguration}s are
+ * equal. Configurations not implementing {@code ConfigurationState} never share a factory.
+ * The class loader is held weakly by the registry, so the factories of different
+ * deployments are never shared and the registry doesn't prevent unloading them.
+ * <p>
+ * The configuration artifacts, e.g. the {@link MessageInterpolator}, are compared using
+ * {@code equals()}, which usually means by identity: configurations only share a factory if
+ * they were given the same artifact instances. The same applies to the mapping streams, so
+ * configurations adding mappings via {@link Configuration#addMapping(java.io.InputStream)} only
+ * share a factory if they were given the same stream instances. Configurations relying on the
+ * default artifacts share a factory.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 2.1
+ */
+public final class ValidatorFactoryRegistry {
+
+	private static final ConcurrentMap<ConfigurationKey, SharedValidatorFactory> SHARED_FACTORIES =
+			new ConcurrentHashMap<>();
+
+	private ValidatorFactoryRegistry() {
+	}
+
+	/**
+	 * Returns a handle on the shared {@link ValidatorFactory} for the default Bean Validation
+	 * provider and the XML configuration.
+	 * <p>
+	 * The code is semantically equivalent to
+	 * {@code ValidatorFactoryRegistry.getValidatorFactory( Validation.byDefaultProvider().configure() )}.
+	 *
+	 * @return a {@code ValidatorFactory} handle, to be closed once not needed anymore
+	 *
+	 * @throws NoProviderFoundException if no Bean Validation provider was found
+	 * @throws ValidationException if a Bean Validation provider was found but the
+	 * {@code ValidatorFactory} cannot be built
+	 */
+	public static ValidatorFactory getDefaultValidatorFactory() {
+		return getValidatorFactory( Validation.byDefaultProvider().configure() );
+	}
+
+	/**
+	 * Returns a handle on the shared {@link ValidatorFactory} built from an equal
+	 * configuration. If there is none, the factory is built from the given configuration.
+	 *
+	 * @param configuration the configuration to build the factory from
+	 * @return a {@code ValidatorFactory} handle, to be closed once not needed anymore
+	 *
+	 * @throws IllegalArgumentException if {@code configuration} is {@code null}
+	 * @throws ValidationException if the {@code ValidatorFactory} cannot be built
+	 */
+	public static ValidatorFactory getValidatorFactory(Configuration<?> configuration) {
+		if ( configuration == null ) {
+			throw new IllegalArgumentException( "The configuration must not be null" );
+		}
+
+		if ( !( configuration instanceof ConfigurationState ) ) {
+			return new SharedValidatorFactory( configuration.buildValidatorFactory() ).newHandle();
+		}
+
+		ConfigurationKey key = new ConfigurationKey(
+				configuration.getClass(),
+				Thread.currentThread().getContextClassLoader(),
+				(ConfigurationState) configuration,
+				configuration
+		);
+		SharedValidatorFactory newFactory = new SharedValidatorFactory( key );
+		// only the reference count is updated within the map, the factory is built outside of it
+		SharedValidatorFactory sharedFactory = SHARED_FACTORIES.compute(
+				key,
+				(k, existing) -> existing != null ? existing.retain() : newFactory
+		);
+		if ( sharedFactory == newFactory ) {
+			newFactory.build( configuration );
+		}
+		try {
+			return sharedFactory.awaitDelegate().newHandle();
+		}
+		catch (RuntimeException | Error e) {
+			sharedFactory.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * A factory shared by several handles, closed when the last handle gets closed.
+	 * <p>
+	 * The factory is built by the thread registering it, other threads requesting it in the
+	 * meantime wait for the build to complete.
+	 */
+	private static class SharedValidatorFactory {
+
+		private final ConfigurationKey key;
+		private final CompletableFuture<ValidatorFactory> delegate = new CompletableFuture<>();
+		private volatile Thread buildingThread;
+		// guarded by the SHARED_FACTORIES entry
+		private int referenceCount = 1;
+
+		private SharedValidatorFactory(ConfigurationKey key) {
+			this.key = key;
+		}
+
+		private SharedValidatorFactory(ValidatorFactory delegate) {
+			this.key = null;
+			this.delegate.complete( delegate );
+		}
+
+		private void build(Configuration<?> configuration) {
+			buildingThread = Thread.currentThread();
+			try {
+				delegate.complete( configuration.buildValidatorFactory() );
+			}
+			catch (RuntimeException | Error e) {
+				SHARED_FACTORIES.remove( key, this );
+				delegate.completeExceptionally( e );
+			}
+			finally {
+				buildingThread = null;
+			}
+		}
+
+		private SharedValidatorFactory retain() {
+			referenceCount++;
+			return this;
+		}
+
+		private SharedValidatorFactory awaitDelegate() {
+			if ( buildingThread == Thread.currentThread() ) {
+				throw new ValidationException( "The ValidatorFactory cannot be requested while building it" );
+			}
+			try {
+				delegate.join();
+				return this;
+			}
+			catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw e;
+			}
+		}
+
+		private ValidatorFactory newHandle() {
+			return new ValidatorFactoryHandle( this );
+		}
+
+		private ValidatorFactory getDelegate() {
+			return delegate.join();
+		}
+
+		private void release() {
+			if ( key == null ) {
+				getDelegate().close();
+				return;
+			}
+
+			AtomicBoolean unused = new AtomicBoolean();
+			SHARED_FACTORIES.computeIfPresent( key, (k, shared) -> {
+				if ( shared != this || --shared.referenceCount > 0 ) {
+					return shared;
+				}
+				unused.set( true );
+				return null;
+			} );
+			if ( unused.get() && !delegate.isCompletedExceptionally() ) {
+				getDelegate().close();
+			}
+		}
+	}
+
+	/**
+	 * A handle on a shared factory, closing it releases the shared factory.
+	 */
+	private static class ValidatorFactoryHandle implements ValidatorFactory {
+
+		private final SharedValidatorFactory sharedFactory;
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private ValidatorFactoryHandle(SharedValidatorFactory sharedFactory) {
+			this.sharedFactory = sharedFactory;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return delegate().getValidator();
+		}
+
+		@Override
+		public ValidatorContext usingContext() {
+			return delegate().usingContext();
+		}
+
+		@Override
+		public MessageInterpolator getMessageInterpolator() {
+			return delegate().getMessageInterpolator();
+		}
+
+		@Override
+		public TraversableResolver getTraversableResolver() {
+			return delegate().getTraversableResolver();
+		}
+
+		@Override
+		public ConstraintValidatorFactory getConstraintValidatorFactory() {
+			return delegate().getConstraintValidatorFactory();
+		}
+
+		@Override
+		public ParameterNameProvider getParameterNameProvider() {
+			return delegate().getParameterNameProvider();
+		}
+
+		@Override
+		public ClockProvider getClockProvider() {
+			return delegate().getClockProvider();
+		}
+
+		@Override
+		public CompletionStage<Void> warmUp(Collection<? extends Class<?>> beanClasses, Executor executor) {
+			return delegate().warmUp( beanClasses, executor );
+		}
+
+		@Override
+		public CompiledPatternCache getCompiledPatternCache() {
+			return delegate().getCompiledPatternCache();
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			if ( type.isInstance( this ) ) {
+				return type.cast( this );
+			}
+			return delegate().unwrap( type );
+		}
+
+		@Override
+		public void close() {
+			if ( closed.compareAndSet( false, true ) ) {
+				sharedFactory.release();
+			}
+		}
+
+		private ValidatorFactory delegate() {
+			if ( closed.get() ) {
+				throw new ValidationException( "The ValidatorFactory has already been closed" );
+			}
+			return sharedFactory.getDelegate();
+		}
+	}
+
+	/**
+	 * Identifies equal configurations by the class loader they are requested with and the
+	 * state they expose. Artifacts and mapping streams are compared using their
+	 * {@code equals()} method, the class loader by identity.
+	 */
+	private static class ConfigurationKey {
+
+		private final WeakReference<ClassLoader> classLoader;
+		private final boolean hasClassLoader;
+		private final List<Object> state;
+		private final int hashCode;
+
+		private ConfigurationKey(Class<?> configurationType,
+				ClassLoader classLoader,
+				ConfigurationState configurationState,
+				Configuration<?> configuration) {
+			this.classLoader = new WeakReference<>( classLoader );
+			this.hasClassLoader = classLoader != null;
+			this.state = Arrays.asList(
+					configurationType,
+					configurationState.isIgnoreXmlConfiguration(),
+					configurationState.getMessageInterpolator(),
+					configurationState.getTraversableResolver(),
+					configurationState.getConstraintValidatorFactory(),
+					configurationState.getParameterNameProvider(),
+					configurationState.getClockProvider(),
+					new HashSet<>( configurationState.getValueExtractors() ),
+					new HashSet<>( configurationState.getMappingStreams() ),
+					new HashMap<>( configurationState.getProperties() ),
+					configurationState.isIgnoreXmlConfiguration() ?
+							Collections.emptyList() :
+							bootstrapState( configuration.getBootstrapConfiguration() )
+			);
+			this.hashCode = 31 * System.identityHashCode( classLoader ) + state.hashCode();
+		}
+
+		/**
+		 * Returns the state of the XML configuration, which is merged into the configuration
+		 * when building the factory only.
+		 */
+		private static List<Object> bootstrapState(BootstrapConfiguration bootstrapConfiguration) {
+			if ( bootstrapConfiguration == null ) {
+				return Collections.emptyList();
+			}
+			return Arrays.asList(
+					bootstrapConfiguration.getDefaultProviderClassName(),
+					bootstrapConfiguration.getConstraintValidatorFactoryClassName(),
+					bootstrapConfiguration.getMessageInterpolatorClassName(),
+					bootstrapConfiguration.getTraversableResolverClassName(),
+					bootstrapConfiguration.getParameterNameProviderClassName(),
+					bootstrapConfiguration.getClockProviderClassName(),
+					new HashSet<>( bootstrapConfiguration.getValueExtractorClassNames() ),
+					new HashSet<>( bootstrapConfiguration.getConstraintMappingResourcePaths() ),
+					bootstrapConfiguration.isExecutableValidationEnabled(),
+					new HashSet<>( bootstrapConfiguration.getDefaultValidatedExecutableTypes() ),
+					new HashMap<>( bootstrapConfiguration.getProperties() )
+			);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !( obj instanceof ConfigurationKey ) ) {
+				return false;
+			}
+			ConfigurationKey other = (ConfigurationKey) obj;
+			if ( hasClassLoader != other.hasClassLoader ) {
+				return false;
+			}
+			ClassLoader otherClassLoader = other.classLoader.get();
+			// keys whose class loader has been collected are only equal to themselves
+			if ( hasClassLoader && ( otherClassLoader == null || classLoader.get() != otherClassLoader ) ) {
+				return false;
+			}
+			return state.equals( other.state );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
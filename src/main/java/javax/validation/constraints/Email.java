@@ -28,6 +28,8 @@ import javax.validation.constraints.Email.List;
  * 
  * 有効な電子メールアドレスを構成する正確な構文はBean Validationプロバイダに委ねられています。
  * CharSequenceを受け入れます。
+ * <p>
+ * {@link #regexp()}を評価する正規表現エンジンは{@link javax.validation.Configuration#regexpEngine(javax.validation.RegexpEngine)}で選択できます。
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
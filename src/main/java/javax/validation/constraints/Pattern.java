@@ -29,6 +29,9 @@ import javax.validation.constraints.Pattern.List;
  * <p>
  * {@code CharSequence}を受け付けます。
  * {@code null}要素は有効とみなされます。
+ * <p>
+ * 正規表現を評価するエンジンは{@link javax.validation.Configuration#regexpEngine(javax.validation.RegexpEngine)}で選択できます。
+ * {@link javax.validation.RegexpEngine#LINEAR_TIME}は入力の長さに対して線形時間で評価しますが、後方参照などの一部の構文をサポートしません。
  *
  * @author Emmanuel Bernard
  */
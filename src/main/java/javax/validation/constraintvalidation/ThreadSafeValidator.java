@@ -0,0 +1,37 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation.constraintvalidation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * {@link ConstraintValidator}の実装が、{@link ConstraintValidator#initialize(java.lang.annotation.Annotation)}の呼び出し後に
+ * スレッドセーフかつ冪等であることを宣言します。
+ * <p>
+ * このアノテーションが付けられた{@code ConstraintValidator}は、初期化後に状態を変更せず、
+ * 検証結果は検証する値と初期化時に渡された制約アノテーションのみに依存します。
+ * <p>
+ * Bean Validationプロバイダーは、制約記述子ごとに初期化済みのインスタンスを1つだけ保持し、
+ * すべてのスレッドと{@link javax.validation.Validator}の間で共有することが出来ます。
+ * その場合、プロバイダーは{@link ConstraintValidatorFactory}から検証ごとにインスタンスを取得しません。
+ * <p>
+ * このアノテーションが存在しない場合、プロバイダーはインスタンスを共有するかどうかを自由に決定します。
+ *
+ * @since 2.1
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface ThreadSafeValidator {
+}
@@ -9,5 +9,7 @@
  * 
  * 特に{@link javax.validation.constraintvalidation.SupportedValidationTarget}は
  * {@link javax.validation.ConstraintValidator}の検証対象を絞り込むために使用されます。
+ * {@link javax.validation.constraintvalidation.ThreadSafeValidator}は
+ * {@link javax.validation.ConstraintValidator}のインスタンスをスレッド間で共有できることを宣言します。
  */
 package javax.validation.constraintvalidation;
@@ -9,6 +9,11 @@ package javax.validation.executable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 import javax.validation.ConstraintViolation;
 import javax.validation.ValidationException;
 import javax.validation.groups.Default;
@@ -103,4 +108,256 @@ public interface ExecutableValidator {
 	<T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor,
 																   T createdObject,
 																   Class<?>... groups);
+
+	/**
+	 * Validates all constraints placed on the parameters of the given method, passing
+	 * each constraint violation to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateParameters(Object, Method, Object[], Class[])} to {@code sink}.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given method's
+	 *        parameters
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateParametersInto(T object,
+											Method method,
+											Object[] parameterValues,
+											Consumer<? super ConstraintViolation<T>> sink,
+											Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validateParameters( object, method, parameterValues, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all return value constraints of the given method, passing each
+	 * constraint violation to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateReturnValue(Object, Method, Object, Class[])} to {@code sink}.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the return value constraints is validated
+	 * @param returnValue the value returned by the given method
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the object,
+	 *         method, sink or groups parameters or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateReturnValueInto(T object,
+											 Method method,
+											 Object returnValue,
+											 Consumer<? super ConstraintViolation<T>> sink,
+											 Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validateReturnValue( object, method, returnValue, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all constraints placed on the parameters of the given constructor,
+	 * passing each constraint violation to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateConstructorParameters(Constructor, Object[], Class[])} to {@code sink}.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given constructor's
+	 *        parameters
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateConstructorParametersInto(Constructor<? extends T> constructor,
+													   Object[] parameterValues,
+													   Consumer<? super ConstraintViolation<T>> sink,
+													   Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		this.<T>validateConstructorParameters( constructor, parameterValues, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all return value constraints of the given constructor, passing each
+	 * constraint violation to the given {@code sink} as soon as it is found.
+	 * <p>
+	 * The default implementation passes each violation returned by
+	 * {@link #validateConstructorReturnValue(Constructor, Object, Class[])} to {@code sink}.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the return value constraints is validated
+	 * @param createdObject the object instantiated by the given method
+	 * @param sink receives each constraint violation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @since 2.1
+	 */
+	default <T> void validateConstructorReturnValueInto(Constructor<? extends T> constructor,
+														T createdObject,
+														Consumer<? super ConstraintViolation<T>> sink,
+														Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The sink must not be null" );
+		}
+		validateConstructorReturnValue( constructor, createdObject, groups ).forEach( sink );
+	}
+
+	/**
+	 * Validates all constraints placed on the parameters of the given method
+	 * asynchronously, using the given {@code executor}.
+	 * <p>
+	 * The default implementation invokes
+	 * {@link #validateParameters(Object, Method, Object[], Class[])} in a task submitted to
+	 * {@code executor}.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given method's
+	 *        parameters
+	 * @param executor the executor running the validation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return a stage completed with the constraint violations caused by this validation;
+	 *         it is completed exceptionally with the exception raised by the validation, if any
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateParametersAsync(T object,
+																					 Method method,
+																					 Object[] parameterValues,
+																					 Executor executor,
+																					 Class<?>... groups) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		return CompletableFuture.supplyAsync( () -> validateParameters( object, method, parameterValues, groups ), executor );
+	}
+
+	/**
+	 * Validates all return value constraints of the given method asynchronously, using
+	 * the given {@code executor}.
+	 * <p>
+	 * The default implementation invokes
+	 * {@link #validateReturnValue(Object, Method, Object, Class[])} in a task submitted to
+	 * {@code executor}.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the return value constraints is validated
+	 * @param returnValue the value returned by the given method
+	 * @param executor the executor running the validation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return a stage completed with the constraint violations caused by this validation;
+	 *         it is completed exceptionally with the exception raised by the validation, if any
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateReturnValueAsync(T object,
+																					  Method method,
+																					  Object returnValue,
+																					  Executor executor,
+																					  Class<?>... groups) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		return CompletableFuture.supplyAsync( () -> validateReturnValue( object, method, returnValue, groups ), executor );
+	}
+
+	/**
+	 * Validates all constraints placed on the parameters of the given constructor
+	 * asynchronously, using the given {@code executor}.
+	 * <p>
+	 * The default implementation invokes
+	 * {@link #validateConstructorParameters(Constructor, Object[], Class[])} in a task
+	 * submitted to {@code executor}.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given constructor's
+	 *        parameters
+	 * @param executor the executor running the validation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return a stage completed with the constraint violations caused by this validation;
+	 *         it is completed exceptionally with the exception raised by the validation, if any
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateConstructorParametersAsync(Constructor<? extends T> constructor,
+																								Object[] parameterValues,
+																								Executor executor,
+																								Class<?>... groups) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		return CompletableFuture.supplyAsync( () -> validateConstructorParameters( constructor, parameterValues, groups ), executor );
+	}
+
+	/**
+	 * Validates all return value constraints of the given constructor asynchronously,
+	 * using the given {@code executor}.
+	 * <p>
+	 * The default implementation invokes
+	 * {@link #validateConstructorReturnValue(Constructor, Object, Class[])} in a task
+	 * submitted to {@code executor}.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the return value constraints is validated
+	 * @param createdObject the object instantiated by the given method
+	 * @param executor the executor running the validation
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return a stage completed with the constraint violations caused by this validation;
+	 *         it is completed exceptionally with the exception raised by the validation, if any
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateConstructorReturnValueAsync(Constructor<? extends T> constructor,
+																								 T createdObject,
+																								 Executor executor,
+																								 Class<?>... groups) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null" );
+		}
+		return CompletableFuture.supplyAsync( () -> validateConstructorReturnValue( constructor, createdObject, groups ), executor );
+	}
 }
@@ -6,6 +6,8 @@
  */
 package javax.validation.spi;
 
+import java.util.List;
+
 import javax.validation.Configuration;
 import javax.validation.ValidationProviderResolver;
 
@@ -32,4 +34,24 @@ public interface BootstrapState {
 	 * @return default implementation of ValidationProviderResolver
 	 */
 	ValidationProviderResolver getDefaultValidationProviderResolver();
+
+	/**
+	 * Returns the list of {@link ValidationProvider}s resolved during bootstrap.
+	 * <p>
+	 * The list is the one returned by the user defined {@code ValidationProviderResolver}
+	 * or, if undefined, by the default {@code ValidationProviderResolver}. Providers
+	 * should use this method instead of invoking the resolver again, as the bootstrap
+	 * process resolves the providers only once.
+	 *
+	 * @return the resolved providers; may be empty but never {@code null}
+	 *
+	 * @since 2.1
+	 */
+	default List<ValidationProvider<?>> getValidationProviders() {
+		ValidationProviderResolver resolver = getValidationProviderResolver();
+		if ( resolver == null ) {
+			resolver = getDefaultValidationProviderResolver();
+		}
+		return resolver.getValidationProviders();
+	}
 }
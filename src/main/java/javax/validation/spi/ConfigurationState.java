@@ -15,7 +15,9 @@ import javax.validation.Configuration;
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.MessageInterpolator;
 import javax.validation.ParameterNameProvider;
+import javax.validation.RegexpEngine;
 import javax.validation.TraversableResolver;
+import javax.validation.ValidationException;
 import javax.validation.ValidatorFactory;
 import javax.validation.valueextraction.ValueExtractor;
 
@@ -195,4 +197,89 @@ public interface ConfigurationState {
 	 *         the property value
 	 */
 	Map<String, String> getProperties();
+
+	/**
+	 * Returns the maximum number of constraint violations reported by a single validation.
+	 * <p>
+	 * The maximum is defined via {@link Configuration#maxViolationCount(int)} or the
+	 * {@value Configuration#MAX_VIOLATION_COUNT_PROPERTY} property.
+	 *
+	 * @return the maximum number of violations or {@code -1} if all violations are reported
+	 * @throws ValidationException if the property is not a positive integer
+	 *
+	 * @since 2.1
+	 */
+	default int getMaxViolationCount() {
+		String maxViolationCount = getProperties().get( Configuration.MAX_VIOLATION_COUNT_PROPERTY );
+		if ( maxViolationCount == null ) {
+			return -1;
+		}
+		try {
+			int value = Integer.parseInt( maxViolationCount.trim() );
+			if ( value >= 1 ) {
+				return value;
+			}
+		}
+		catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new ValidationException(
+				"Invalid value for " + Configuration.MAX_VIOLATION_COUNT_PROPERTY + ": " + maxViolationCount
+		);
+	}
+
+	/**
+	 * Returns whether the {@link javax.validation.ConstraintViolationException}s reporting
+	 * the violations of method and constructor validation have a stack trace.
+	 * <p>
+	 * This is defined via {@link Configuration#executableViolationStackTrace(boolean)} or the
+	 * {@value Configuration#EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY} property.
+	 *
+	 * @return {@code false} if the exceptions are created without stack trace,
+	 *         {@code true} otherwise
+	 * @throws ValidationException if the property is neither {@code true} nor {@code false}
+	 *
+	 * @since 2.1
+	 */
+	default boolean isExecutableViolationStackTraceEnabled() {
+		String stackTraceEnabled = getProperties().get( Configuration.EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY );
+		if ( stackTraceEnabled == null || "true".equalsIgnoreCase( stackTraceEnabled.trim() ) ) {
+			return true;
+		}
+		if ( "false".equalsIgnoreCase( stackTraceEnabled.trim() ) ) {
+			return false;
+		}
+		throw new ValidationException(
+				"Invalid value for " + Configuration.EXECUTABLE_VIOLATION_STACK_TRACE_PROPERTY + ": " + stackTraceEnabled
+		);
+	}
+
+	/**
+	 * Returns the engine evaluating the regular expressions of the
+	 * {@link javax.validation.constraints.Pattern} and {@link javax.validation.constraints.Email}
+	 * constraints.
+	 * <p>
+	 * The engine is selected via {@link Configuration#regexpEngine(RegexpEngine)} or the
+	 * {@value Configuration#REGEXP_ENGINE_PROPERTY} property.
+	 *
+	 * @return the regular expression engine, {@link RegexpEngine#BACKTRACKING} if none
+	 *         is selected
+	 * @throws ValidationException if the property is not the name of a {@code RegexpEngine}
+	 *
+	 * @since 2.1
+	 */
+	default RegexpEngine getRegexpEngine() {
+		String regexpEngine = getProperties().get( Configuration.REGEXP_ENGINE_PROPERTY );
+		if ( regexpEngine == null ) {
+			return RegexpEngine.BACKTRACKING;
+		}
+		try {
+			return RegexpEngine.valueOf( regexpEngine.trim() );
+		}
+		catch (IllegalArgumentException e) {
+			throw new ValidationException(
+					"Invalid value for " + Configuration.REGEXP_ENGINE_PROPERTY + ": " + regexpEngine, e
+			);
+		}
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Spliterator;
+
+import javax.validation.spi.ValidationProvider;
+
+/**
+ * Loads the {@link ValidationProvider}s registered via the service loader mechanism.
+ * <p>
+ * The provider types are discovered via {@link ServiceLoader#stream()}, a provider is only
+ * instantiated once it is retrieved from the returned {@link LazyValidationProviderList}.
+ * As with the eager discovery, providers failing to load or to instantiate are skipped.
+ * <p>
+ * Not a public API.
+ */
+final class ValidationProviderLoader {
+
+	private ValidationProviderLoader() {
+	}
+
+	static List<ValidationProvider<?>> loadProviders(ClassLoader classloader) {
+		ServiceLoader<ValidationProvider> loader = ServiceLoader.load( ValidationProvider.class, classloader );
+		Spliterator<ServiceLoader.Provider<ValidationProvider>> providerSpliterator = loader.stream().spliterator();
+		List<ServiceProviderReference> providerReferences = new ArrayList<>();
+		boolean hasNext = true;
+		while ( hasNext ) {
+			try {
+				hasNext = providerSpliterator.tryAdvance( provider -> providerReferences.add(
+						new ServiceProviderReference( provider ) ) );
+			}
+			catch ( ServiceConfigurationError e ) {
+				// ignore, because it can happen when multiple
+				// providers are present and some of them are not class loader
+				// compatible with our API.
+			}
+		}
+		return new LazyValidationProviderList( providerReferences );
+	}
+
+	private static class ServiceProviderReference implements LazyValidationProviderList.ProviderReference {
+
+		private final ServiceLoader.Provider<ValidationProvider> provider;
+
+		private ServiceProviderReference(ServiceLoader.Provider<ValidationProvider> provider) {
+			this.provider = provider;
+		}
+
+		@Override
+		public Class<?> type() {
+			return provider.type();
+		}
+
+		@Override
+		public ValidationProvider<?> get() {
+			return provider.get();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default methods of {@link AsyncConstraintValidator}.
+ */
+public class AsyncConstraintValidatorTest {
+
+	@Test
+	public void testIsValidWaitsForStageCompletedOnOtherThread() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			AsyncConstraintValidator<Annotation, String> validator = (value, context) ->
+					CompletableFuture.supplyAsync( () -> !value.isEmpty(), executor );
+
+			assertTrue( validator.isValid( "a", null ) );
+			assertFalse( validator.isValid( "", null ) );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testIsValidRethrowsRuntimeExceptionOfStage() {
+		ValidationException failure = new ValidationException( "Cannot reach the data store" );
+		AsyncConstraintValidator<Annotation, String> validator = (value, context) -> failedStage( failure );
+
+		try {
+			validator.isValid( "a", null );
+			fail( "Expected the validation to fail" );
+		}
+		catch (ValidationException e) {
+			assertSame( e, failure );
+		}
+	}
+
+	@Test
+	public void testIsValidWrapsCheckedExceptionOfStage() {
+		IOException failure = new IOException( "Cannot reach the data store" );
+		AsyncConstraintValidator<Annotation, String> validator = (value, context) -> failedStage( failure );
+
+		try {
+			validator.isValid( "a", null );
+			fail( "Expected the validation to fail" );
+		}
+		catch (ValidationException e) {
+			assertSame( e.getCause(), failure );
+		}
+	}
+
+	private static CompletionStage<Boolean> failedStage(Throwable failure) {
+		CompletableFuture<Boolean> stage = new CompletableFuture<>();
+		stage.completeExceptionally( failure );
+		return stage;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link BoundedCache}.
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void testValueIsComputedWithoutLockingSegment() throws Exception {
+		// a single segment
+		BoundedCache<String, String> cache = new BoundedCache<>( 1 );
+		CountDownLatch computing = new CountDownLatch( 1 );
+		CountDownLatch otherKeyComputed = new CountDownLatch( 1 );
+
+		CompletableFuture<String> slowValue = CompletableFuture.supplyAsync( () -> cache.computeIfAbsent( "slow", key -> {
+			computing.countDown();
+			try {
+				otherKeyComputed.await( 10, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "slow value";
+		} ) );
+
+		computing.await( 10, TimeUnit.SECONDS );
+		assertEquals( cache.computeIfAbsent( "fast", key -> "fast value" ), "fast value" );
+		otherKeyComputed.countDown();
+
+		assertEquals( slowValue.get( 10, TimeUnit.SECONDS ), "slow value" );
+	}
+
+	@Test
+	public void testFirstCachedValueIsKept() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 4 );
+		String cached = new String( "value" );
+
+		String value = cache.computeIfAbsent( "key", key -> {
+			// a concurrent computation caching its value first
+			cache.computeIfAbsent( key, k -> cached );
+			return new String( "value" );
+		} );
+
+		assertSame( value, cached );
+		assertSame( cache.computeIfAbsent( "key", key -> "other" ), cached );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntryIsEvicted() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 1 );
+
+		cache.computeIfAbsent( "a", key -> "a" );
+		cache.computeIfAbsent( "b", key -> "b" );
+
+		assertEquals( cache.size(), 1 );
+		assertEquals( cache.computeIfAbsent( "a", key -> "recomputed" ), "recomputed" );
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link CachingMessageInterpolator}.
+ */
+public class CachingMessageInterpolatorTest {
+
+	@Test
+	public void testTemplateIsCompiledOncePerLocale() {
+		CountingMessageInterpolator delegate = new CountingMessageInterpolator();
+		MessageInterpolator interpolator = new CachingMessageInterpolator( delegate, 16 );
+
+		assertEquals( interpolator.interpolate( "{foo}", null, Locale.ENGLISH ), "{foo}/en" );
+		assertEquals( interpolator.interpolate( "{foo}", null, Locale.ENGLISH ), "{foo}/en" );
+		assertEquals( interpolator.interpolate( "{foo}", null, Locale.FRENCH ), "{foo}/fr" );
+
+		assertEquals( delegate.compilationCount, 2 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedTemplatesAreEvicted() {
+		CountingMessageInterpolator delegate = new CountingMessageInterpolator();
+		CachingMessageInterpolator interpolator = new CachingMessageInterpolator( delegate, 1 );
+
+		interpolator.compile( "{foo}", Locale.ENGLISH );
+		interpolator.compile( "{bar}", Locale.ENGLISH );
+		interpolator.compile( "{foo}", Locale.ENGLISH );
+
+		assertEquals( delegate.compilationCount, 3 );
+	}
+
+	@Test
+	public void testInterpolatorBoundToLocale() {
+		CountingMessageInterpolator delegate = new CountingMessageInterpolator();
+		MessageInterpolator interpolator = new CachingMessageInterpolator( delegate, 16 ).forLocale( Locale.GERMAN );
+
+		assertEquals( interpolator.interpolate( "{foo}", null ), "{foo}/de" );
+		assertEquals( interpolator.interpolate( "{foo}", null ), "{foo}/de" );
+
+		assertEquals( delegate.compilationCount, 1 );
+	}
+
+	@Test
+	public void testDefaultLocaleIsLeftToDelegate() {
+		CountingMessageInterpolator delegate = new CountingMessageInterpolator();
+		MessageInterpolator interpolator = new CachingMessageInterpolator( delegate, 16 );
+
+		assertEquals( interpolator.interpolate( "{foo}", null ), "{foo}/default" );
+
+		assertEquals( delegate.compilationCount, 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaximumSizeMustBePositive() {
+		new CachingMessageInterpolator( new CountingMessageInterpolator(), 0 );
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private int compilationCount;
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return messageTemplate + "/default";
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return messageTemplate + "/" + locale.getLanguage();
+		}
+
+		@Override
+		public CompiledTemplate compile(String messageTemplate, Locale locale) {
+			compilationCount++;
+			return MessageInterpolator.super.compile( messageTemplate, locale );
+		}
+	}
+}
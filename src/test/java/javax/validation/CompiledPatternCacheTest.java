@@ -0,0 +1,76 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.validation.constraints.Pattern.Flag;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link CompiledPatternCache}.
+ */
+public class CompiledPatternCacheTest {
+
+	@Test
+	public void testPatternsAreCompiledOncePerExpressionAndFlags() {
+		CompiledPatternCache cache = new CompiledPatternCache( 16 );
+
+		Pattern pattern = cache.getPattern( "[a-z]+", Flag.CASE_INSENSITIVE, Flag.MULTILINE );
+
+		assertSame( cache.getPattern( "[a-z]+", Flag.MULTILINE, Flag.CASE_INSENSITIVE ), pattern );
+		assertSame( cache.getPattern( "[a-z]+", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE ), pattern );
+		assertEquals( pattern.flags(), Pattern.CASE_INSENSITIVE | Pattern.MULTILINE );
+		assertNotSame( cache.getPattern( "[a-z]+" ), pattern );
+
+		assertEquals( cache.getCompilationCount(), 2 );
+		assertEquals( cache.getHitCount(), 2 );
+		assertEquals( cache.size(), 2 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPatternsAreEvicted() {
+		CompiledPatternCache cache = new CompiledPatternCache( 1 );
+
+		cache.getPattern( "a" );
+		cache.getPattern( "b" );
+		cache.getPattern( "a" );
+
+		assertEquals( cache.getCompilationCount(), 3 );
+		assertEquals( cache.getHitCount(), 0 );
+		assertEquals( cache.size(), 1 );
+	}
+
+	@Test
+	public void testLinearTimePatternsAreCachedSeparately() {
+		CompiledPatternCache cache = new CompiledPatternCache( 16 );
+
+		cache.getPattern( "[a-z]+", Flag.CASE_INSENSITIVE );
+		LinearTimePattern pattern = cache.getLinearTimePattern( "[a-z]+", Flag.CASE_INSENSITIVE );
+
+		assertSame( cache.getLinearTimePattern( "[a-z]+", Pattern.CASE_INSENSITIVE ), pattern );
+		assertEquals( cache.getCompilationCount(), 2 );
+		assertEquals( cache.getHitCount(), 1 );
+		assertEquals( cache.size(), 2 );
+	}
+
+	@Test(expectedExceptions = PatternSyntaxException.class)
+	public void testUnsupportedLinearTimeExpression() {
+		new CompiledPatternCache( 16 ).getLinearTimePattern( "(a)\\1" );
+	}
+
+	@Test(expectedExceptions = PatternSyntaxException.class)
+	public void testInvalidExpression() {
+		new CompiledPatternCache( 16 ).getPattern( "[a-z" );
+	}
+}
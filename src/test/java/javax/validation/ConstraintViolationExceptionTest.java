@@ -7,6 +7,7 @@
 package javax.validation;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import javax.validation.metadata.ConstraintDescriptor;
 
@@ -14,6 +15,8 @@ import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 /**
  * Tests for the creation of {@link ConstraintViolationException}.
@@ -64,6 +67,103 @@ public class ConstraintViolationExceptionTest {
 		assertNull( constraintViolationException.getMessage() );
 	}
 
+	@Test
+	public void testMessageIsBuiltLazily() {
+		MessageCountingConstraintViolation constraintViolation = new MessageCountingConstraintViolation( "name" );
+		Set<ConstraintViolation<?>> constraintViolations = new HashSet<>();
+		constraintViolations.add( constraintViolation );
+
+		ConstraintViolationException constraintViolationException = new ConstraintViolationException( constraintViolations );
+
+		assertEquals( constraintViolation.messageCount, 0 );
+		assertEquals( constraintViolationException.getMessage(), "name: invalid" );
+		assertEquals( constraintViolationException.getMessage(), "name: invalid" );
+		assertEquals( constraintViolation.messageCount, 1 );
+	}
+
+	@Test
+	public void testMessageIsCapped() {
+		Set<ConstraintViolation<?>> constraintViolations = new LinkedHashSet<>();
+		constraintViolations.add( new MessageCountingConstraintViolation( "a" ) );
+		constraintViolations.add( new MessageCountingConstraintViolation( "b" ) );
+		constraintViolations.add( new MessageCountingConstraintViolation( "c" ) );
+
+		ConstraintViolationException constraintViolationException = new ConstraintViolationException( constraintViolations, 2 );
+
+		assertEquals( constraintViolationException.getMessage(), "a: invalid, b: invalid, ... (1 more)" );
+		assertEquals( new ConstraintViolationException( constraintViolations, 3 ).getMessage(),
+				"a: invalid, b: invalid, c: invalid" );
+	}
+
+	@Test
+	public void testConstraintViolationsAreNotCopied() {
+		Set<ConstraintViolation<?>> constraintViolations = new HashSet<>();
+		constraintViolations.add( new DummyConstraintViolation<ConstraintViolationExceptionTest>() );
+
+		ConstraintViolationException constraintViolationException = new ConstraintViolationException( constraintViolations, 10 );
+
+		assertEquals( constraintViolationException.getConstraintViolations(), constraintViolations );
+		try {
+			constraintViolationException.getConstraintViolations().clear();
+			fail( "The constraint violations should not be modifiable" );
+		}
+		catch (UnsupportedOperationException e) {
+			// expected
+		}
+
+		constraintViolationException = new ConstraintViolationException( constraintViolations, 10, false );
+		assertEquals( constraintViolationException.getConstraintViolations(), constraintViolations );
+
+		constraintViolationException = new ConstraintViolationException( null, 10 );
+
+		assertNull( constraintViolationException.getConstraintViolations() );
+		assertNull( constraintViolationException.getMessage() );
+	}
+
+	@Test
+	public void testCreationOfConstraintViolationExceptionWithoutStackTrace() {
+		Set<ConstraintViolation<?>> constraintViolations = new HashSet<>();
+		constraintViolations.add( new MessageCountingConstraintViolation( "name" ) );
+
+		ConstraintViolationException constraintViolationException = new ConstraintViolationException( constraintViolations, 10, false );
+		constraintViolationException.addSuppressed( new IllegalStateException() );
+
+		assertEquals( constraintViolationException.getStackTrace().length, 0 );
+		assertEquals( constraintViolationException.getSuppressed().length, 0 );
+		assertEquals( constraintViolationException.getMessage(), "name: invalid" );
+		assertEquals( constraintViolationException.getConstraintViolations(), constraintViolations );
+
+		constraintViolationException = new ConstraintViolationException( constraintViolations, 10, true );
+
+		assertTrue( constraintViolationException.getStackTrace().length > 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxReportedViolationsMustBePositive() {
+		new ConstraintViolationException( new HashSet<ConstraintViolation<?>>(), 0 );
+	}
+
+	private static class MessageCountingConstraintViolation extends DummyConstraintViolation<Object> {
+
+		private final Path propertyPath;
+		private int messageCount;
+
+		private MessageCountingConstraintViolation(String propertyPath) {
+			this.propertyPath = LinkedPath.parse( propertyPath );
+		}
+
+		@Override
+		public String getMessage() {
+			messageCount++;
+			return "invalid";
+		}
+
+		@Override
+		public Path getPropertyPath() {
+			return propertyPath;
+		}
+	}
+
 	/**
 	 * @author Gunnar Morling
 	 */
@@ -0,0 +1,126 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ServiceConfigurationError;
+
+import javax.validation.spi.ValidationProvider;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link LazyValidationProviderList}.
+ */
+public class LazyValidationProviderListTest {
+
+	@Test
+	public void testProvidersAreInstantiatedOnDemand() {
+		CountingProviderReference foo = new CountingProviderReference( FooValidationProvider.class );
+		CountingProviderReference bar = new CountingProviderReference( BarValidationProvider.class );
+		LazyValidationProviderList providers = new LazyValidationProviderList( Arrays.asList( foo, bar ) );
+
+		assertFalse( providers.isEmpty() );
+		ValidationProvider<?> provider = providers.get( 0 );
+
+		assertTrue( provider instanceof FooValidationProvider );
+		assertSame( providers.get( 0 ), provider );
+		assertEquals( foo.instantiationCount, 1 );
+		assertEquals( bar.instantiationCount, 0 );
+
+		assertEquals( providers.size(), 2 );
+		assertEquals( bar.instantiationCount, 1 );
+	}
+
+	@Test
+	public void testFindProviderOnlyInstantiatesRequestedType() {
+		CountingProviderReference foo = new CountingProviderReference( FooValidationProvider.class );
+		CountingProviderReference bar = new CountingProviderReference( BarValidationProvider.class );
+		LazyValidationProviderList providers = new LazyValidationProviderList( Arrays.asList( foo, bar ) );
+
+		assertTrue( providers.findProvider( BarValidationProvider.class ) instanceof BarValidationProvider );
+		assertSame( providers.get( 1 ), providers.findProvider( BarValidationProvider.class ) );
+		assertEquals( bar.instantiationCount, 1 );
+		assertNull( providers.findProvider( NonRegisteredValidationProvider.class ) );
+	}
+
+	@Test
+	public void testProvidersFailingToInstantiateAreSkipped() {
+		FailingProviderReference failing = new FailingProviderReference( FooValidationProvider.class );
+		CountingProviderReference bar = new CountingProviderReference( BarValidationProvider.class );
+		LazyValidationProviderList providers = new LazyValidationProviderList( Arrays.asList( failing, bar ) );
+
+		assertTrue( providers.get( 0 ) instanceof BarValidationProvider );
+		assertEquals( providers.size(), 1 );
+		assertNull( providers.findProvider( FooValidationProvider.class ) );
+		assertEquals( failing.instantiationCount, 1 );
+	}
+
+	@Test
+	public void testListOfFailingProvidersIsEmpty() {
+		LazyValidationProviderList providers = new LazyValidationProviderList(
+				Collections.singletonList( new FailingProviderReference( FooValidationProvider.class ) ) );
+
+		assertTrue( providers.isEmpty() );
+		assertEquals( providers.size(), 0 );
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testGetBeyondLastProviderFails() {
+		LazyValidationProviderList providers = new LazyValidationProviderList(
+				Collections.singletonList( new CountingProviderReference( FooValidationProvider.class ) ) );
+
+		assertEquals( providers.size(), 1 );
+		providers.get( 1 );
+	}
+
+	private static class CountingProviderReference implements LazyValidationProviderList.ProviderReference {
+
+		private final Class<? extends ValidationProvider<?>> type;
+		protected int instantiationCount;
+
+		private CountingProviderReference(Class<? extends ValidationProvider<?>> type) {
+			this.type = type;
+		}
+
+		@Override
+		public Class<?> type() {
+			return type;
+		}
+
+		@Override
+		public ValidationProvider<?> get() {
+			instantiationCount++;
+			try {
+				return type.newInstance();
+			}
+			catch (InstantiationException | IllegalAccessException e) {
+				throw new ValidationException( e );
+			}
+		}
+	}
+
+	private static class FailingProviderReference extends CountingProviderReference {
+
+		private FailingProviderReference(Class<? extends ValidationProvider<?>> type) {
+			super( type );
+		}
+
+		@Override
+		public ValidationProvider<?> get() {
+			instantiationCount++;
+			throw new ServiceConfigurationError( "Provider " + type() + " could not be instantiated" );
+		}
+	}
+}
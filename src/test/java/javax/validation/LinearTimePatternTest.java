@@ -0,0 +1,159 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link LinearTimePattern}.
+ */
+public class LinearTimePatternTest {
+
+	private static final String[] INPUTS = {
+			"", "a", "b", "ab", "aab", "abc", "ABC", "abcabc", "a-b", "a.b", "a\nb", "a\n", "a\r\n", "\n",
+			"hello world", "foo@bar.com", "x_y9", "2024-01-31", "aaaaaaaaab", "]", "-", "é", "É", "Z",
+			"s", "S", "\u017F", "k", "K", "\u212A", "\u212Aelvin"
+	};
+
+	@Test
+	public void testMatchesLikeBacktrackingEngine() {
+		String[] regexps = {
+				"", "a", "ab", "a|b", "a*", "a+b", "a?b?", "(ab)+", "(?:a|b)*c?", "[a-c]+", "[^a]+", "[]a]",
+				"[a\\-b]+", "[\\d-]+", "[\\x41-\\x43]+", "\\d{4}-\\d{2}-\\d{2}", "\\w+", "\\W", "\\s*\\S+\\s*",
+				"a{2}b", "a{1,}b", "a{0,3}b?", "a.b", "a\\.b", "^a$", "a$", "a$\\n", "^$", "\\Qa.b\\E",
+				"[^@\\s]+@[^@\\s]+\\.[a-z]{2,}", "(a*)*b", "(a|ab)(c|bcd)?", "a*?b", "(?<name>a)b", "\\u00e9",
+				".*", "\\t|\\n|-", "[-a]", "[a-]", "x|", "(|a)b", "s", "S", "\u017F", "k", "\u212A", "\\u212A",
+				"[s]", "[\u017F]", "[^s]", "[a-z]", "[A-Z]", "[j-l]", "[^j-l]", "[\u212A]", "kelvin"
+		};
+		int[] flagCombinations = {
+				0, Pattern.CASE_INSENSITIVE, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE, Pattern.DOTALL,
+				Pattern.MULTILINE, Pattern.UNIX_LINES
+		};
+
+		for ( String regexp : regexps ) {
+			for ( int flags : flagCombinations ) {
+				Pattern pattern = Pattern.compile( regexp, flags );
+				LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+				for ( String input : INPUTS ) {
+					assertEquals(
+							linearTimePattern.matches( input ),
+							pattern.matcher( input ).matches(),
+							"Expression '" + regexp + "' with flags " + flags + " on '" + input + "'"
+					);
+				}
+			}
+		}
+	}
+
+	@Test(timeOut = 5000)
+	public void testMatchingTakesLinearTime() {
+		StringBuilder input = new StringBuilder();
+		for ( int i = 0; i < 10_000; i++ ) {
+			input.append( 'a' );
+		}
+		input.append( '!' );
+
+		assertFalse( LinearTimePattern.compile( "(a+)+b", 0 ).matches( input ) );
+		assertFalse( LinearTimePattern.compile( "(a|aa)*b", 0 ).matches( input ) );
+		assertTrue( LinearTimePattern.compile( "(a|aa)*!", 0 ).matches( input ) );
+	}
+
+	@Test
+	public void testUnsupportedConstructsAreRejected() {
+		String[] regexps = {
+				"(a)\\1", "(?<x>a)\\k<x>", "a(?=b)", "a(?!b)", "(?<=a)b", "(?>a)", "a*+", "(?i)a", "\\ba",
+				"\\p{Alpha}", "[a-z&&[^e]]", "[a[b]]", "\\0101"
+		};
+		for ( String regexp : regexps ) {
+			assertFalse( LinearTimePattern.isSupported( regexp, 0 ), regexp );
+		}
+		assertFalse( LinearTimePattern.isSupported( "a", Pattern.COMMENTS ) );
+	}
+
+	@Test
+	public void testHexadecimalCodePointEscapeIsReportedAsUnsupported() {
+		try {
+			LinearTimePattern.compile( "\\x{41}", 0 );
+			fail( "Expected an exception for \\x{41}" );
+		}
+		catch (PatternSyntaxException e) {
+			assertTrue( e.getDescription().startsWith( "Unsupported" ), e.getDescription() );
+		}
+	}
+
+	@Test
+	public void testMatchingFromWithinMatch() {
+		LinearTimePattern pattern = LinearTimePattern.compile( "a+b", 0 );
+		CharSequence input = new CharSequence() {
+			private final String value = "aab";
+
+			@Override
+			public char charAt(int index) {
+				// a nested match on the same thread must not disturb the enclosing one
+				assertFalse( pattern.matches( "aa" ) );
+				return value.charAt( index );
+			}
+
+			@Override
+			public int length() {
+				return value.length();
+			}
+
+			@Override
+			public CharSequence subSequence(int start, int end) {
+				return value.subSequence( start, end );
+			}
+		};
+
+		assertTrue( pattern.matches( input ) );
+	}
+
+	@Test
+	public void testConcurrentMatchesOfSamePattern() throws Exception {
+		LinearTimePattern pattern = LinearTimePattern.compile( "(a|b)*c", 0 );
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for ( int i = 0; i < 200; i++ ) {
+				String input = i % 2 == 0 ? "ababc" : "ababa";
+				results.add( executor.submit( () -> pattern.matches( input ) ) );
+			}
+			for ( int i = 0; i < results.size(); i++ ) {
+				assertEquals( (boolean) results.get( i ).get(), i % 2 == 0 );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testInvalidExpressionsAreRejected() {
+		for ( String regexp : new String[] { "(a", "a)", "[a", "*a", "a{2,1}", "[b-a]", "(?<a>x)(?<a>y)", "(?<a-b>x)" } ) {
+			try {
+				LinearTimePattern.compile( regexp, 0 );
+				fail( "Expected an exception for " + regexp );
+			}
+			catch (PatternSyntaxException e) {
+				// expected
+			}
+		}
+	}
+}
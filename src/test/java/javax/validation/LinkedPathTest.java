@@ -0,0 +1,112 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link LinkedPath}.
+ */
+public class LinkedPathTest {
+
+	@Test
+	public void testToString() {
+		assertEquals( LinkedPath.root().toString(), "" );
+		assertEquals( LinkedPath.root().addPropertyNode( "order" ).addPropertyNode( "items" )
+				.addPropertyNode( "price" ).atIndex( 3 ).toString(), "order.items[3].price" );
+		assertEquals( LinkedPath.root().addPropertyNode( "prices" ).addBeanNode().atKey( "EUR" ).toString(),
+				"prices[EUR]" );
+		assertEquals( LinkedPath.root().addMethodNode( "foo", new ArrayList<>() ).addReturnValueNode().toString(),
+				"foo.<return value>" );
+	}
+
+	@Test
+	public void testSiblingsSharePrefix() {
+		LinkedPath items = LinkedPath.root().addPropertyNode( "order" ).addPropertyNode( "items" );
+		LinkedPath first = items.addPropertyNode( "price" ).atIndex( 0 );
+		LinkedPath second = items.addPropertyNode( "price" ).atIndex( 1 );
+
+		assertSame( first.getParent(), items );
+		assertSame( second.getParent(), items );
+		assertEquals( first.size(), 3 );
+		assertFalse( first.equals( second ) );
+	}
+
+	@Test
+	public void testEqualPaths() {
+		LinkedPath first = LinkedPath.root().addPropertyNode( "name" );
+		LinkedPath second = LinkedPath.root().addPropertyNode( "name" );
+
+		assertEquals( first.getLeafNode(), second.getLeafNode() );
+		assertEquals( first, second );
+		assertEquals( first.hashCode(), second.hashCode() );
+	}
+
+	@Test
+	public void testNodes() {
+		List<Path.Node> nodes = new ArrayList<>();
+		LinkedPath.root().addPropertyNode( "items" ).addPropertyNode( "price" ).atIndex( 2 ).forEach( nodes::add );
+
+		assertEquals( nodes.size(), 2 );
+		assertEquals( nodes.get( 0 ).getName(), "items" );
+		assertFalse( nodes.get( 0 ).isInIterable() );
+		assertEquals( nodes.get( 1 ).getName(), "price" );
+		assertTrue( nodes.get( 1 ).isInIterable() );
+		assertEquals( nodes.get( 1 ).getIndex(), Integer.valueOf( 2 ) );
+		assertNull( nodes.get( 1 ).getKey() );
+		assertEquals( nodes.get( 1 ).getKind(), ElementKind.PROPERTY );
+		assertEquals( nodes.get( 1 ).as( Path.PropertyNode.class ).getName(), "price" );
+	}
+
+	@Test
+	public void testParse() {
+		LinkedPath path = LinkedPath.parse( "order.items[3].price" );
+
+		assertEquals( path.toString(), "order.items[3].price" );
+		assertEquals( path, LinkedPath.root().addPropertyNode( "order" ).addPropertyNode( "items" )
+				.addPropertyNode( "price" ).atIndex( 3 ) );
+		assertEquals( path.getLeafNode().getIndex(), Integer.valueOf( 3 ) );
+
+		assertEquals( LinkedPath.parse( "prices[EUR]" ).getLeafNode().getKey(), "EUR" );
+		assertEquals( LinkedPath.parse( "prices[EUR]" ).getLeafNode().getKind(), ElementKind.BEAN );
+		assertTrue( LinkedPath.parse( "items[].name" ).getLeafNode().isInIterable() );
+		assertSame( LinkedPath.parse( "" ), LinkedPath.root() );
+	}
+
+	@Test
+	public void testParseRejectsInvalidPaths() {
+		for ( String invalidPath : new String[] { ".name", "name.", "na me", "items[3", "items[3]price", "1name" } ) {
+			try {
+				LinkedPath.parse( invalidPath );
+				fail( "Expected an exception for " + invalidPath );
+			}
+			catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test(expectedExceptions = ClassCastException.class)
+	public void testNodeCannotBeNarrowedToOtherKind() {
+		LinkedPath.root().addPropertyNode( "name" ).getLeafNode().as( Path.BeanNode.class );
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testRootHasNoLeafNode() {
+		LinkedPath.root().atIndex( 0 );
+	}
+}
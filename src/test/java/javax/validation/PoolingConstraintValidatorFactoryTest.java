@@ -0,0 +1,119 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link PoolingConstraintValidatorFactory}.
+ */
+public class PoolingConstraintValidatorFactoryTest {
+
+	@Test
+	public void testReleasedInstancesAreReused() {
+		CountingConstraintValidatorFactory delegate = new CountingConstraintValidatorFactory();
+		ConstraintValidatorFactory factory = new PoolingConstraintValidatorFactory( delegate, 4 );
+
+		NotNullValidator first = factory.getInstance( NotNullValidator.class );
+		factory.releaseInstance( first );
+		NotNullValidator second = factory.getInstance( NotNullValidator.class );
+
+		assertSame( second, first );
+		assertEquals( delegate.created, 1 );
+		assertEquals( delegate.released.size(), 0 );
+	}
+
+	@Test
+	public void testInstancesBeyondCapacityAreReleasedToDelegate() {
+		CountingConstraintValidatorFactory delegate = new CountingConstraintValidatorFactory();
+		PoolingConstraintValidatorFactory factory = new PoolingConstraintValidatorFactory( delegate, 1 );
+
+		NotNullValidator first = factory.getInstance( NotNullValidator.class );
+		NotNullValidator second = factory.getInstance( NotNullValidator.class );
+		assertNotSame( second, first );
+
+		factory.releaseInstance( first );
+		factory.releaseInstance( second );
+
+		assertEquals( delegate.released.size(), 1 );
+		assertSame( delegate.released.get( 0 ), second );
+
+		factory.close();
+
+		assertEquals( delegate.released.size(), 2 );
+		assertSame( delegate.released.get( 1 ), first );
+	}
+
+	@Test
+	public void testInstancesOfUnknownClassesAreReleasedToDelegate() {
+		CountingConstraintValidatorFactory delegate = new CountingConstraintValidatorFactory();
+		ConstraintValidatorFactory factory = new PoolingConstraintValidatorFactory( delegate, 4 );
+
+		NotNullValidator instance = new NotNullValidator();
+		factory.releaseInstance( instance );
+
+		assertEquals( delegate.released.size(), 1 );
+	}
+
+	@Test
+	public void testInstancesReleasedAfterCloseAreReleasedToDelegate() {
+		CountingConstraintValidatorFactory delegate = new CountingConstraintValidatorFactory();
+		PoolingConstraintValidatorFactory factory = new PoolingConstraintValidatorFactory( delegate, 4 );
+
+		NotNullValidator instance = factory.getInstance( NotNullValidator.class );
+		factory.close();
+		factory.releaseInstance( instance );
+
+		assertEquals( delegate.released.size(), 1 );
+		assertSame( delegate.released.get( 0 ), instance );
+		assertNotSame( factory.getInstance( NotNullValidator.class ), instance );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxPooledInstancesMustBePositive() {
+		new PoolingConstraintValidatorFactory( new CountingConstraintValidatorFactory(), 0 );
+	}
+
+	public static class NotNullValidator implements ConstraintValidator<NotNull, Object> {
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			return value != null;
+		}
+	}
+
+	private static class CountingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private int created;
+		private final List<ConstraintValidator<?, ?>> released = new ArrayList<>();
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			created++;
+			try {
+				return key.newInstance();
+			}
+			catch (InstantiationException | IllegalAccessException e) {
+				throw new ValidationException( e );
+			}
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			released.add( instance );
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.constraints.Positive;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link IntConstraintValidator}, {@link LongConstraintValidator} and
+ * {@link DoubleConstraintValidator}.
+ */
+public class PrimitiveConstraintValidatorTest {
+
+	@Test
+	public void testBoxedValuesAreUnboxed() {
+		ConstraintValidator<Positive, Integer> intValidator = (IntConstraintValidator<Positive>) (value, context) -> value > 0;
+		ConstraintValidator<Positive, Long> longValidator = (LongConstraintValidator<Positive>) (value, context) -> value > 0L;
+		ConstraintValidator<Positive, Double> doubleValidator = (DoubleConstraintValidator<Positive>) (value, context) -> value > 0.0d;
+
+		assertTrue( intValidator.isValid( Integer.valueOf( 1 ), null ) );
+		assertFalse( intValidator.isValid( Integer.valueOf( -1 ), null ) );
+		assertTrue( longValidator.isValid( Long.valueOf( 1L ), null ) );
+		assertFalse( longValidator.isValid( Long.valueOf( -1L ), null ) );
+		assertTrue( doubleValidator.isValid( Double.valueOf( 0.5d ), null ) );
+		assertFalse( doubleValidator.isValid( Double.valueOf( -0.5d ), null ) );
+	}
+
+	@Test
+	public void testNullIsValid() {
+		IntConstraintValidator<Positive> intValidator = (value, context) -> value > 0;
+		LongConstraintValidator<Positive> longValidator = (value, context) -> value > 0L;
+		DoubleConstraintValidator<Positive> doubleValidator = (value, context) -> value > 0.0d;
+
+		assertTrue( intValidator.isValid( (Integer) null, null ) );
+		assertTrue( longValidator.isValid( (Long) null, null ) );
+		assertTrue( doubleValidator.isValid( (Double) null, null ) );
+	}
+
+	@Test
+	public void testFindInvalid() {
+		IntConstraintValidator<Positive> intValidator = (value, context) -> value > 0;
+		LongConstraintValidator<Positive> longValidator = (value, context) -> value > 0L;
+		DoubleConstraintValidator<Positive> doubleValidator = (value, context) -> value > 0.0d;
+
+		assertEquals( intValidator.findInvalid( new int[] { 1, -1, 2, 0 }, index -> null ), bits( 1, 3 ) );
+		assertEquals( longValidator.findInvalid( new long[] { -1L, 1L }, index -> null ), bits( 0 ) );
+		assertEquals( doubleValidator.findInvalid( new double[] { 0.5d }, index -> null ), bits() );
+		assertEquals( intValidator.findInvalid( Arrays.asList( 1, null, -2 ), index -> null ), bits( 2 ) );
+	}
+
+	@Test
+	public void testFindInvalidValidatesEachValueInItsOwnContext() {
+		List<ConstraintValidatorContext> contexts = Arrays.asList( context(), context(), context() );
+		Map<Integer, ConstraintValidatorContext> usedContexts = new HashMap<>();
+		IntConstraintValidator<Positive> intValidator = (value, context) -> {
+			usedContexts.put( value, context );
+			return value > 0;
+		};
+
+		intValidator.findInvalid( new int[] { 0, 1, 2 }, contexts::get );
+		assertSame( usedContexts.get( 0 ), contexts.get( 0 ) );
+		assertSame( usedContexts.get( 2 ), contexts.get( 2 ) );
+
+		usedContexts.clear();
+		intValidator.findInvalid( Arrays.asList( 2, 1, 0 ), contexts::get );
+		assertSame( usedContexts.get( 2 ), contexts.get( 0 ) );
+		assertSame( usedContexts.get( 0 ), contexts.get( 2 ) );
+	}
+
+	private static ConstraintValidatorContext context() {
+		return (ConstraintValidatorContext) Proxy.newProxyInstance(
+				ConstraintValidatorContext.class.getClassLoader(),
+				new Class<?>[] { ConstraintValidatorContext.class },
+				(proxy, method, args) -> null
+		);
+	}
+
+	private static BitSet bits(int... indexes) {
+		BitSet bits = new BitSet();
+		for ( int index : indexes ) {
+			bits.set( index );
+		}
+		return bits;
+	}
+}
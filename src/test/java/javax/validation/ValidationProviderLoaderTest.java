@@ -0,0 +1,76 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.validation.spi.ValidationProvider;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ValidationProviderLoader}.
+ * <p>
+ * Also run against the Java 9 variant of the loader, in which case the system property
+ * {@code javax.validation.test.multiRelease} is set.
+ */
+public class ValidationProviderLoaderTest {
+
+	private static final boolean MULTI_RELEASE = Boolean.getBoolean( "javax.validation.test.multiRelease" );
+
+	@Test
+	public void testProvidersFailingToInstantiateAreSkipped() {
+		List<ValidationProvider<?>> providers = ValidationProviderLoader.loadProviders(
+				new ProviderServicesClassLoader( "-3" ) );
+
+		assertEquals( providers.size(), 1 );
+		assertTrue( providers.get( 0 ) instanceof FooValidationProvider );
+	}
+
+	@Test
+	public void testProvidersAreLoadedLazilyOnJava9() {
+		List<ValidationProvider<?>> providers = ValidationProviderLoader.loadProviders(
+				new ProviderServicesClassLoader( "-3" ) );
+
+		assertEquals( providers instanceof LazyValidationProviderList, MULTI_RELEASE );
+		if ( MULTI_RELEASE ) {
+			assertTrue( ( (LazyValidationProviderList) providers ).findProvider( FooValidationProvider.class )
+					instanceof FooValidationProvider );
+		}
+	}
+
+	public static class FailingValidationProvider extends BarValidationProvider {
+
+		public FailingValidationProvider() {
+			throw new IllegalStateException( "Provider cannot be instantiated" );
+		}
+	}
+
+	private static class ProviderServicesClassLoader extends ClassLoader {
+		private static final String SERVICES_FILE = "META-INF/services/" + ValidationProvider.class.getName();
+		private final String serviceFileSuffix;
+
+		public ProviderServicesClassLoader(String serviceFileSuffix) {
+			super( ProviderServicesClassLoader.class.getClassLoader() );
+			this.serviceFileSuffix = serviceFileSuffix;
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if ( SERVICES_FILE.equals( name ) ) {
+				return super.getResources( name + serviceFileSuffix );
+			}
+			return super.getResources( name );
+		}
+	}
+}
@@ -17,11 +17,17 @@ import java.lang.ref.SoftReference;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.validation.NonRegisteredValidationProvider.NonRegisteredConfiguration;
+import javax.validation.spi.BootstrapState;
 import javax.validation.spi.ValidationProvider;
 
 import org.testng.annotations.Test;
@@ -112,6 +118,37 @@ public class ValidationTest {
 		}
 	}
 
+	@Test
+	public void testProvidersAreLoadedOncePerClassLoaderUnderConcurrentAccess() throws Exception {
+		int THREAD_COUNT = 16;
+
+		ClassLoader customClassLoader = new CustomValidationProviderClassLoader( "-1" );
+		int createdProvidersBefore = BarValidationProvider.createdValidationProviders.size();
+
+		CountDownLatch start = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newFixedThreadPool( THREAD_COUNT );
+		try {
+			List<Future<ValidatorFactory>> factories = new ArrayList<>();
+			for ( int i = 0; i < THREAD_COUNT; i++ ) {
+				factories.add( executor.submit( () -> {
+					Thread.currentThread().setContextClassLoader( customClassLoader );
+					start.await();
+					return Validation.buildDefaultValidatorFactory();
+				} ) );
+			}
+			start.countDown();
+
+			for ( Future<ValidatorFactory> factory : factories ) {
+				assertTrue( factory.get() instanceof BarValidationProvider.DummyValidatorFactory );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( BarValidationProvider.createdValidationProviders.size() - createdProvidersBefore, 1 );
+	}
+
 	// BVAL-280, BVAL-343
 	@Test
 	public void testUnknownProviderGetsIgnored() {
@@ -144,6 +181,55 @@ public class ValidationTest {
 				.buildValidatorFactory();
 	}
 
+	@Test
+	public void testProviderResolverIsInvokedOnlyOnceDuringBootstrap() {
+		StateCapturingValidationProvider provider = new StateCapturingValidationProvider();
+		CountingValidationProviderResolver resolver = new CountingValidationProviderResolver( provider );
+
+		Configuration<?> configuration = Validation.byDefaultProvider()
+				.providerResolver( resolver )
+				.configure();
+		assertNotNull( configuration );
+		assertEquals( resolver.invocationCount, 1 );
+
+		assertEquals( provider.state.getValidationProviders(), Collections.singletonList( provider ) );
+		assertEquals( resolver.invocationCount, 1 );
+	}
+
+	@Test
+	public void testProviderResolverIsInvokedOnlyOnceDuringProviderSpecificBootstrap() {
+		StateCapturingValidationProvider provider = new StateCapturingValidationProvider();
+		CountingValidationProviderResolver resolver = new CountingValidationProviderResolver( provider );
+
+		Validation.byProvider( StateCapturingValidationProvider.class )
+				.providerResolver( resolver )
+				.configure();
+		assertEquals( resolver.invocationCount, 1 );
+
+		assertEquals( provider.state.getValidationProviders(), Collections.singletonList( provider ) );
+		assertEquals( resolver.invocationCount, 1 );
+	}
+
+	@Test
+	public void testProviderIndexIsUsedInsteadOfServiceFiles() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader( new ProviderIndexClassLoader( "-1" ) );
+
+		int createdBarProvidersBefore = BarValidationProvider.createdValidationProviders.size();
+		int createdFooProvidersBefore = FooValidationProvider.createdValidationProviders.size();
+		try {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			assertTrue( factory instanceof BarValidationProvider.DummyValidatorFactory );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+
+		// only the default provider gets instantiated
+		assertEquals( BarValidationProvider.createdValidationProviders.size() - createdBarProvidersBefore, 1 );
+		assertEquals( FooValidationProvider.createdValidationProviders.size() - createdFooProvidersBefore, 0 );
+	}
+
 	private int countInMemoryProviders() {
 		int count = 0;
 		// we cannot access Validation.DefaultValidationProviderResolver#providersPerClassloader, so we have to
@@ -181,6 +267,24 @@ public class ValidationTest {
 		}
 	}
 
+	private static class ProviderIndexClassLoader extends ClassLoader {
+		private static final String PROVIDER_INDEX = "META-INF/validation-provider-index";
+		private final String indexSuffix;
+
+		public ProviderIndexClassLoader(String indexSuffix) {
+			super( ProviderIndexClassLoader.class.getClassLoader() );
+			this.indexSuffix = indexSuffix;
+		}
+
+		@Override
+		public URL getResource(String name) {
+			if ( PROVIDER_INDEX.equals( name ) ) {
+				return super.getResource( name + indexSuffix );
+			}
+			return super.getResource( name );
+		}
+	}
+
 	private static class CustomEnumeration<E> implements Enumeration<E> {
 		private final List<E> enumList = new ArrayList<>();
 		int currentIndex = 0;
@@ -211,4 +315,37 @@ public class ValidationTest {
 			return Collections.emptyList();
 		}
 	}
+
+	private static class CountingValidationProviderResolver implements ValidationProviderResolver {
+
+		private final List<ValidationProvider<?>> validationProviders;
+		private int invocationCount;
+
+		private CountingValidationProviderResolver(ValidationProvider<?>... validationProviders) {
+			this.validationProviders = Arrays.asList( validationProviders );
+		}
+
+		@Override
+		public List<ValidationProvider<?>> getValidationProviders() {
+			invocationCount++;
+			return validationProviders;
+		}
+	}
+
+	public static class StateCapturingValidationProvider extends FooValidationProvider {
+
+		private BootstrapState state;
+
+		@Override
+		public FooValidationProvider.DummyConfiguration createSpecializedConfiguration(BootstrapState state) {
+			this.state = state;
+			return new FooValidationProvider.DummyConfiguration();
+		}
+
+		@Override
+		public FooValidationProvider.DummyConfiguration createGenericConfiguration(BootstrapState state) {
+			this.state = state;
+			return new FooValidationProvider.DummyConfiguration();
+		}
+	}
 }
@@ -0,0 +1,81 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertSame;
+
+import java.util.Locale;
+
+import javax.validation.valueextraction.ValueExtractor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default methods of {@link ValidatorContext}.
+ */
+public class ValidatorContextTest {
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testMaxViolationCountIsNotSupportedByDefault() {
+		new DummyValidatorContext().maxViolationCount( 1 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxViolationCountMustBePositive() {
+		new DummyValidatorContext().maxViolationCount( 0 );
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void testLocaleIsNotSupportedByDefault() {
+		new DummyValidatorContext().locale( Locale.FRENCH );
+	}
+
+	@Test
+	public void testNullLocaleIsAcceptedByDefault() {
+		ValidatorContext context = new DummyValidatorContext();
+
+		assertSame( context.locale( null ), context );
+	}
+
+	private static class DummyValidatorContext implements ValidatorContext {
+
+		@Override
+		public ValidatorContext messageInterpolator(MessageInterpolator messageInterpolator) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext traversableResolver(TraversableResolver traversableResolver) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext constraintValidatorFactory(ConstraintValidatorFactory factory) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext parameterNameProvider(ParameterNameProvider parameterNameProvider) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext clockProvider(ClockProvider clockProvider) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext addValueExtractor(ValueExtractor<?> extractor) {
+			return this;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,374 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.executable.ExecutableType;
+import javax.validation.spi.ConfigurationState;
+import javax.validation.valueextraction.ValueExtractor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for sharing {@link ValidatorFactory} instances via {@link ValidatorFactoryRegistry}.
+ */
+public class ValidatorFactoryRegistryTest {
+
+	@Test
+	public void testEqualConfigurationsShareValidatorFactory() {
+		MessageInterpolator messageInterpolator = new DummyMessageInterpolator();
+
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		ValidatorFactory factory2 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+
+		assertNotSame( factory1, factory2 );
+		assertSame( factory1.unwrap( CloseableValidatorFactory.class ), factory2.unwrap( CloseableValidatorFactory.class ) );
+
+		factory1.close();
+		factory2.close();
+	}
+
+	@Test
+	public void testDifferentConfigurationsDoNotShareValidatorFactory() {
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( new DummyMessageInterpolator() ) );
+		ValidatorFactory factory2 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( new DummyMessageInterpolator() ) );
+
+		assertNotSame( factory1.unwrap( CloseableValidatorFactory.class ), factory2.unwrap( CloseableValidatorFactory.class ) );
+
+		factory1.close();
+		factory2.close();
+	}
+
+	@Test
+	public void testSharedValidatorFactoryIsClosedWhenLastHandleIsClosed() {
+		MessageInterpolator messageInterpolator = new DummyMessageInterpolator();
+
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		ValidatorFactory factory2 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		CloseableValidatorFactory sharedFactory = factory1.unwrap( CloseableValidatorFactory.class );
+
+		factory1.close();
+		// closing a handle twice must not release the shared factory twice
+		factory1.close();
+		assertFalse( sharedFactory.closed );
+
+		factory2.close();
+		assertTrue( sharedFactory.closed );
+
+		ValidatorFactory factory3 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		assertNotSame( factory3.unwrap( CloseableValidatorFactory.class ), sharedFactory );
+		factory3.close();
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testClosedHandleCannotBeUsed() {
+		ValidatorFactory factory = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( new DummyMessageInterpolator() ) );
+		factory.close();
+		factory.getValidator();
+	}
+
+	@Test
+	public void testConfigurationWithoutStateIsNotShared() {
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory( new StatelessConfiguration() );
+		ValidatorFactory factory2 = ValidatorFactoryRegistry.getValidatorFactory( new StatelessConfiguration() );
+		CloseableValidatorFactory delegate1 = factory1.unwrap( CloseableValidatorFactory.class );
+
+		assertNotSame( delegate1, factory2.unwrap( CloseableValidatorFactory.class ) );
+
+		factory1.close();
+		assertTrue( delegate1.closed );
+		factory2.close();
+	}
+
+	@Test
+	public void testFailedBuildIsNotShared() {
+		MessageInterpolator messageInterpolator = new DummyMessageInterpolator();
+
+		try {
+			ValidatorFactoryRegistry.getValidatorFactory( new FailingStateConfiguration( messageInterpolator ) );
+			fail( "Expected the ValidatorFactory build to fail" );
+		}
+		catch (ValidationException e) {
+			assertEquals( e.getMessage(), "Cannot build factory" );
+		}
+
+		ValidatorFactory factory = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		assertFalse( factory.unwrap( CloseableValidatorFactory.class ).closed );
+		factory.close();
+	}
+
+	@Test
+	public void testValidatorFactoryCannotBeRequestedWhileBuildingIt() {
+		ReentrantStateConfiguration configuration = new ReentrantStateConfiguration( new DummyMessageInterpolator() );
+
+		ValidatorFactory factory = ValidatorFactoryRegistry.getValidatorFactory( configuration );
+		assertTrue( configuration.reentrantRequestFailed );
+
+		CloseableValidatorFactory sharedFactory = factory.unwrap( CloseableValidatorFactory.class );
+		factory.close();
+		assertTrue( sharedFactory.closed );
+	}
+
+	@Test
+	public void testDifferentXmlConfigurationsDoNotShareValidatorFactory() {
+		MessageInterpolator messageInterpolator = new DummyMessageInterpolator();
+
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory(
+				new StateConfiguration( messageInterpolator, new MappingsBootstrapConfiguration( "mapping-1.xml" ) ) );
+		ValidatorFactory factory2 = ValidatorFactoryRegistry.getValidatorFactory(
+				new StateConfiguration( messageInterpolator, new MappingsBootstrapConfiguration( "mapping-2.xml" ) ) );
+		ValidatorFactory factory3 = ValidatorFactoryRegistry.getValidatorFactory(
+				new StateConfiguration( messageInterpolator, new MappingsBootstrapConfiguration( "mapping-1.xml" ) ) );
+
+		assertNotSame( factory1.unwrap( CloseableValidatorFactory.class ), factory2.unwrap( CloseableValidatorFactory.class ) );
+		assertSame( factory1.unwrap( CloseableValidatorFactory.class ), factory3.unwrap( CloseableValidatorFactory.class ) );
+
+		factory1.close();
+		factory2.close();
+		factory3.close();
+	}
+
+	@Test
+	public void testDifferentContextClassLoadersDoNotShareValidatorFactory() {
+		MessageInterpolator messageInterpolator = new DummyMessageInterpolator();
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+		ValidatorFactory factory1 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		ValidatorFactory factory2;
+		thread.setContextClassLoader( new ClassLoader( contextClassLoader ) {
+		} );
+		try {
+			factory2 = ValidatorFactoryRegistry.getValidatorFactory( new StateConfiguration( messageInterpolator ) );
+		}
+		finally {
+			thread.setContextClassLoader( contextClassLoader );
+		}
+
+		assertNotSame( factory1.unwrap( CloseableValidatorFactory.class ), factory2.unwrap( CloseableValidatorFactory.class ) );
+
+		factory1.close();
+		factory2.close();
+	}
+
+	private static class FailingStateConfiguration extends StateConfiguration {
+
+		private FailingStateConfiguration(MessageInterpolator messageInterpolator) {
+			super( messageInterpolator );
+		}
+
+		@Override
+		public ValidatorFactory buildValidatorFactory() {
+			throw new ValidationException( "Cannot build factory" );
+		}
+	}
+
+	private static class ReentrantStateConfiguration extends StateConfiguration {
+
+		private ReentrantStateConfiguration(MessageInterpolator messageInterpolator) {
+			super( messageInterpolator );
+		}
+
+		private boolean reentrantRequestFailed;
+
+		@Override
+		public ValidatorFactory buildValidatorFactory() {
+			try {
+				ValidatorFactoryRegistry.getValidatorFactory( new ReentrantStateConfiguration( getMessageInterpolator() ) );
+			}
+			catch (ValidationException e) {
+				reentrantRequestFailed = true;
+			}
+			return super.buildValidatorFactory();
+		}
+	}
+
+	private static class StatelessConfiguration extends FooValidationProvider.DummyConfiguration {
+
+		@Override
+		public ValidatorFactory buildValidatorFactory() {
+			return new CloseableValidatorFactory();
+		}
+	}
+
+	private static class StateConfiguration extends FooValidationProvider.DummyConfiguration implements ConfigurationState {
+
+		private final MessageInterpolator messageInterpolator;
+		private final BootstrapConfiguration bootstrapConfiguration;
+
+		private StateConfiguration(MessageInterpolator messageInterpolator) {
+			this( messageInterpolator, null );
+		}
+
+		private StateConfiguration(MessageInterpolator messageInterpolator, BootstrapConfiguration bootstrapConfiguration) {
+			this.messageInterpolator = messageInterpolator;
+			this.bootstrapConfiguration = bootstrapConfiguration;
+		}
+
+		@Override
+		public BootstrapConfiguration getBootstrapConfiguration() {
+			return bootstrapConfiguration;
+		}
+
+		@Override
+		public ValidatorFactory buildValidatorFactory() {
+			return new CloseableValidatorFactory();
+		}
+
+		@Override
+		public boolean isIgnoreXmlConfiguration() {
+			return false;
+		}
+
+		@Override
+		public MessageInterpolator getMessageInterpolator() {
+			return messageInterpolator;
+		}
+
+		@Override
+		public Set<InputStream> getMappingStreams() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public Set<ValueExtractor<?>> getValueExtractors() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public ConstraintValidatorFactory getConstraintValidatorFactory() {
+			return null;
+		}
+
+		@Override
+		public TraversableResolver getTraversableResolver() {
+			return null;
+		}
+
+		@Override
+		public ParameterNameProvider getParameterNameProvider() {
+			return null;
+		}
+
+		@Override
+		public ClockProvider getClockProvider() {
+			return null;
+		}
+
+		@Override
+		public Map<String, String> getProperties() {
+			return Collections.emptyMap();
+		}
+	}
+
+	private static class CloseableValidatorFactory extends FooValidationProvider.DummyValidatorFactory {
+
+		private boolean closed;
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T unwrap(Class<T> type) {
+			return (T) this;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static class MappingsBootstrapConfiguration implements BootstrapConfiguration {
+
+		private final Set<String> mappings;
+
+		private MappingsBootstrapConfiguration(String... mappings) {
+			this.mappings = new HashSet<>( Arrays.asList( mappings ) );
+		}
+
+		@Override
+		public String getDefaultProviderClassName() {
+			return null;
+		}
+
+		@Override
+		public String getConstraintValidatorFactoryClassName() {
+			return null;
+		}
+
+		@Override
+		public String getMessageInterpolatorClassName() {
+			return null;
+		}
+
+		@Override
+		public String getTraversableResolverClassName() {
+			return null;
+		}
+
+		@Override
+		public String getParameterNameProviderClassName() {
+			return null;
+		}
+
+		@Override
+		public String getClockProviderClassName() {
+			return null;
+		}
+
+		@Override
+		public Set<String> getValueExtractorClassNames() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public Set<String> getConstraintMappingResourcePaths() {
+			return mappings;
+		}
+
+		@Override
+		public boolean isExecutableValidationEnabled() {
+			return true;
+		}
+
+		@Override
+		public Set<ExecutableType> getDefaultValidatedExecutableTypes() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public Map<String, String> getProperties() {
+			return Collections.emptyMap();
+		}
+	}
+
+	private static class DummyMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return messageTemplate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return messageTemplate;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.metadata.BeanDescriptor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default methods of {@link ValidatorFactory}.
+ */
+public class ValidatorFactoryTest {
+
+	private static final String WARM_UP_THREAD_NAME = "warm-up";
+
+	@Test
+	public void testWarmUpRetrievesConstraintsOfEachClassOnExecutor() {
+		RecordingValidator validator = new RecordingValidator();
+		ExecutorService executorService = Executors.newFixedThreadPool( 2, r -> new Thread( r, WARM_UP_THREAD_NAME ) );
+		AtomicInteger submittedTasks = new AtomicInteger();
+
+		try {
+			new ValidatorFactoryStub( validator ).warmUp(
+					Arrays.asList( String.class, Integer.class, Long.class ),
+					task -> {
+						submittedTasks.incrementAndGet();
+						executorService.execute( task );
+					}
+			).toCompletableFuture().join();
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals( submittedTasks.get(), 3 );
+		assertEquals( validator.initializingThreads.keySet(), new HashSet<>( Arrays.asList( String.class, Integer.class, Long.class ) ) );
+		assertEquals( new HashSet<>( validator.initializingThreads.values() ), new HashSet<>( Arrays.asList( WARM_UP_THREAD_NAME ) ) );
+	}
+
+	@Test
+	public void testWarmUpFailureCompletesStageExceptionally() {
+		RecordingValidator validator = new RecordingValidator();
+
+		try {
+			new ValidatorFactoryStub( validator ).warmUp(
+					Arrays.asList( String.class, FailingBean.class ),
+					Runnable::run
+			).toCompletableFuture().join();
+			fail( "Expected the warm up to fail" );
+		}
+		catch (CompletionException e) {
+			assertTrue( e.getCause() instanceof ValidationException );
+			assertSame( e.getCause(), validator.failure );
+		}
+
+		assertTrue( validator.initializingThreads.containsKey( String.class ) );
+	}
+
+	@Test
+	public void testWarmUpFailsWithFirstFailure() {
+		RecordingValidator validator = new RecordingValidator();
+		Deque<Runnable> tasks = new ArrayDeque<>();
+
+		CompletableFuture<Void> warmUp = new ValidatorFactoryStub( validator ).warmUp(
+				Arrays.asList( FailingBean.class, OtherFailingBean.class ),
+				tasks::push
+		).toCompletableFuture();
+		// runs the tasks in the reverse order of their submission
+		while ( !tasks.isEmpty() ) {
+			tasks.pop().run();
+		}
+
+		try {
+			warmUp.join();
+			fail( "Expected the warm up to fail" );
+		}
+		catch (CompletionException e) {
+			assertSame( e.getCause(), validator.otherFailure );
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testWarmUpRequiresExecutor() {
+		new ValidatorFactoryStub( new RecordingValidator() ).warmUp( Arrays.asList( String.class ), null );
+	}
+
+	private static class FailingBean {
+	}
+
+	private static class OtherFailingBean {
+	}
+
+	/**
+	 * Records the thread retrieving the constraints of each class, fails for {@link FailingBean}
+	 * and {@link OtherFailingBean}.
+	 */
+	private static class RecordingValidator extends ValidatorTest.NotEmptyStringValidator {
+
+		private final Map<Class<?>, String> initializingThreads = new ConcurrentHashMap<>();
+		private final ValidationException failure = new ValidationException( "Cannot initialize FailingBean" );
+		private final ValidationException otherFailure = new ValidationException( "Cannot initialize OtherFailingBean" );
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			if ( clazz == FailingBean.class ) {
+				throw failure;
+			}
+			if ( clazz == OtherFailingBean.class ) {
+				throw otherFailure;
+			}
+			initializingThreads.put( clazz, Thread.currentThread().getName() );
+			return null;
+		}
+	}
+
+	private static class ValidatorFactoryStub extends FooValidationProvider.DummyValidatorFactory {
+
+		private final Validator validator;
+
+		private ValidatorFactoryStub(Validator validator) {
+			this.validator = validator;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return validator;
+		}
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default methods of {@link Validator}.
+ */
+public class ValidatorTest {
+
+	@Test
+	public void testValidateAllReportsViolationsPerPosition() {
+		Validator validator = new NotEmptyStringValidator();
+
+		Map<Integer, Set<ConstraintViolation<String>>> violations = validator.validateAll(
+				Arrays.asList( "a", "", "b", "" )
+		);
+
+		assertEquals( violations.keySet(), Arrays.asList( 1, 3 ) );
+		assertEquals( violations.get( 1 ).size(), 1 );
+	}
+
+	@Test
+	public void testValidateAllReturnsEmptyMapForValidObjects() {
+		Validator validator = new NotEmptyStringValidator();
+
+		assertTrue( validator.validateAll( Arrays.asList( "a", "b" ) ).isEmpty() );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateAllRequiresObjects() {
+		new NotEmptyStringValidator().validateAll( null );
+	}
+
+	@Test
+	public void testParallelValidateAllReportsViolationsPerPosition() {
+		Validator validator = new NotEmptyStringValidator();
+		List<String> objects = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			objects.add( i % 7 == 0 ? "" : "a" );
+		}
+
+		ForkJoinPool pool = new ForkJoinPool( 4 );
+		try {
+			Map<Integer, Set<ConstraintViolation<String>>> violations = validator.validateAll( objects, pool );
+
+			assertEquals( violations.keySet(), validator.validateAll( (Iterable<String>) objects ).keySet() );
+			assertEquals( violations.size(), 143 );
+			int previousIndex = -1;
+			for ( Integer index : violations.keySet() ) {
+				assertEquals( index % 7, 0 );
+				assertTrue( index > previousIndex );
+				previousIndex = index;
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testParallelValidateAllPropagatesExceptions() {
+		ForkJoinPool pool = new ForkJoinPool( 2 );
+		try {
+			new NotEmptyStringValidator().validateAll( Arrays.asList( "a", null, "b" ), pool );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testValidateAllIntoPassesViolationsWithPosition() {
+		Validator validator = new NotEmptyStringValidator();
+		List<Integer> invalidPositions = new ArrayList<>();
+
+		validator.validateAllInto( Arrays.asList( "", "a", "" ), (violation, index) -> invalidPositions.add( index ) );
+
+		assertEquals( invalidPositions, Arrays.asList( 0, 2 ) );
+	}
+
+	@Test
+	public void testParallelValidateAllIntoPassesViolationsWithPosition() {
+		Validator validator = new NotEmptyStringValidator();
+		List<String> objects = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			objects.add( i % 7 == 0 ? "" : "a" );
+		}
+		Set<Integer> invalidPositions = ConcurrentHashMap.newKeySet();
+
+		ForkJoinPool pool = new ForkJoinPool( 4 );
+		try {
+			validator.validateAllInto( objects, pool, (violation, index) -> invalidPositions.add( index ) );
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		assertEquals( invalidPositions, validator.validateAll( (Iterable<String>) objects ).keySet() );
+	}
+
+	@Test
+	public void testIsValid() {
+		Validator validator = new NotEmptyStringValidator();
+
+		assertTrue( validator.isValid( "a" ) );
+		assertFalse( validator.isValid( "" ) );
+	}
+
+	@Test
+	public void testValidateAsyncRunsOnExecutor() throws Exception {
+		Validator validator = new NotEmptyStringValidator();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Thread validatingThread = executor.submit( Thread::currentThread ).get();
+			Set<Thread> threads = new HashSet<>();
+
+			Set<ConstraintViolation<String>> violations = validator.validateAsync(
+					"",
+					task -> executor.execute( () -> {
+						threads.add( Thread.currentThread() );
+						task.run();
+					} )
+			).toCompletableFuture().get();
+
+			assertEquals( violations.size(), 1 );
+			assertEquals( threads, Collections.singleton( validatingThread ) );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPathBasedValidationRendersPathFromNodes() {
+		PropertyNameRecordingValidator validator = new PropertyNameRecordingValidator();
+		Path path = new ForeignPath( LinkedPath.parse( "orders[3].items[EUR].prices[]" ) );
+
+		validator.validatePropertyPath( "", path );
+		validator.validateValuePath( String.class, path, "" );
+
+		assertEquals( validator.propertyNames, Arrays.asList( "orders[3].items[EUR].prices[]", "orders[3].items[EUR].prices[]" ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidatePropertyPathRequiresPath() {
+		new NotEmptyStringValidator().validatePropertyPath( "", null );
+	}
+
+	/**
+	 * A {@link Path} implementation other than {@link LinkedPath}, whose string representation
+	 * isn't a property path.
+	 */
+	private static class ForeignPath implements Path {
+
+		private final Path nodes;
+
+		private ForeignPath(Path nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public Iterator<Node> iterator() {
+			return nodes.iterator();
+		}
+
+		@Override
+		public String toString() {
+			return "ForeignPath";
+		}
+	}
+
+	/**
+	 * Records the property names passed to the property and value validation methods.
+	 */
+	private static class PropertyNameRecordingValidator extends NotEmptyStringValidator {
+
+		private final List<String> propertyNames = new ArrayList<>();
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			propertyNames.add( propertyName );
+			return Collections.emptySet();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			propertyNames.add( propertyName );
+			return Collections.emptySet();
+		}
+	}
+
+	/**
+	 * Reports a violation for each empty string.
+	 */
+	static class NotEmptyStringValidator implements Validator {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			if ( object == null ) {
+				throw new IllegalArgumentException( "The object to validate must not be null" );
+			}
+			if ( ( (String) object ).isEmpty() ) {
+				return Collections.singleton( (ConstraintViolation<T>) new StringConstraintViolation( (String) object ) );
+			}
+			return Collections.emptySet();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return null;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return null;
+		}
+
+		@Override
+		public ExecutableValidator forExecutables() {
+			return null;
+		}
+	}
+
+	private static class StringConstraintViolation implements ConstraintViolation<String> {
+
+		private final String invalidValue;
+
+		private StringConstraintViolation(String invalidValue) {
+			this.invalidValue = invalidValue;
+		}
+
+		@Override
+		public String getMessage() {
+			return "must not be empty";
+		}
+
+		@Override
+		public String getMessageTemplate() {
+			return "{javax.validation.constraints.NotEmpty.message}";
+		}
+
+		@Override
+		public String getRootBean() {
+			return invalidValue;
+		}
+
+		@Override
+		public Class<String> getRootBeanClass() {
+			return String.class;
+		}
+
+		@Override
+		public Object getLeafBean() {
+			return invalidValue;
+		}
+
+		@Override
+		public Object[] getExecutableParameters() {
+			return null;
+		}
+
+		@Override
+		public Object getExecutableReturnValue() {
+			return null;
+		}
+
+		@Override
+		public Path getPropertyPath() {
+			return null;
+		}
+
+		@Override
+		public Object getInvalidValue() {
+			return invalidValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return null;
+		}
+
+		@Override
+		public <U> U unwrap(Class<U> type) {
+			return null;
+		}
+	}
+}
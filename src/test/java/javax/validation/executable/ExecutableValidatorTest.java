@@ -0,0 +1,140 @@
+/*
+ * Bean Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package javax.validation.executable;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default methods of {@link ExecutableValidator}.
+ */
+public class ExecutableValidatorTest {
+
+	private static final String VALIDATION_THREAD_NAME = "validation";
+
+	@Test
+	public void testAsyncValidationsRunOnExecutor() throws Exception {
+		RecordingExecutableValidator validator = new RecordingExecutableValidator( null );
+		Method method = Object.class.getMethod( "equals", Object.class );
+		Constructor<Object> constructor = Object.class.getConstructor();
+		ExecutorService executor = Executors.newSingleThreadExecutor( r -> new Thread( r, VALIDATION_THREAD_NAME ) );
+
+		try {
+			assertTrue( join( validator.validateParametersAsync( "", method, new Object[] { "" }, executor ) ).isEmpty() );
+			assertEquals( validator.validatingThread, VALIDATION_THREAD_NAME );
+			validator.validatingThread = null;
+
+			assertTrue( join( validator.validateReturnValueAsync( "", method, true, executor ) ).isEmpty() );
+			assertEquals( validator.validatingThread, VALIDATION_THREAD_NAME );
+			validator.validatingThread = null;
+
+			assertTrue( join( validator.validateConstructorParametersAsync( constructor, new Object[0], executor ) ).isEmpty() );
+			assertEquals( validator.validatingThread, VALIDATION_THREAD_NAME );
+			validator.validatingThread = null;
+
+			assertTrue( join( validator.validateConstructorReturnValueAsync( constructor, new Object(), executor ) ).isEmpty() );
+			assertEquals( validator.validatingThread, VALIDATION_THREAD_NAME );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testAsyncValidationFailureCompletesStageExceptionally() throws Exception {
+		ValidationException failure = new ValidationException( "Cannot validate" );
+		RecordingExecutableValidator validator = new RecordingExecutableValidator( failure );
+		Method method = Object.class.getMethod( "equals", Object.class );
+		Constructor<Object> constructor = Object.class.getConstructor();
+
+		assertFailsWith( validator.validateParametersAsync( "", method, new Object[] { "" }, Runnable::run ), failure );
+		assertFailsWith( validator.validateReturnValueAsync( "", method, true, Runnable::run ), failure );
+		assertFailsWith( validator.validateConstructorParametersAsync( constructor, new Object[0], Runnable::run ), failure );
+		assertFailsWith( validator.validateConstructorReturnValueAsync( constructor, new Object(), Runnable::run ), failure );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testAsyncValidationRequiresExecutor() throws Exception {
+		new RecordingExecutableValidator( null ).validateParametersAsync( "", Object.class.getMethod( "toString" ),
+				new Object[0], null );
+	}
+
+	private static <T> Set<ConstraintViolation<T>> join(CompletionStage<Set<ConstraintViolation<T>>> stage) {
+		return stage.toCompletableFuture().join();
+	}
+
+	private static void assertFailsWith(CompletionStage<?> stage, Throwable failure) {
+		try {
+			stage.toCompletableFuture().join();
+			fail( "Expected the validation to fail" );
+		}
+		catch (CompletionException e) {
+			assertSame( e.getCause(), failure );
+		}
+	}
+
+	/**
+	 * Records the thread running the last validation, fails with the given exception if any.
+	 */
+	private static class RecordingExecutableValidator implements ExecutableValidator {
+
+		private final RuntimeException failure;
+		private volatile String validatingThread;
+
+		private RecordingExecutableValidator(RuntimeException failure) {
+			this.failure = failure;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues,
+				Class<?>... groups) {
+			return validate();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue,
+				Class<?>... groups) {
+			return validate();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor,
+				Object[] parameterValues, Class<?>... groups) {
+			return validate();
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor,
+				T createdObject, Class<?>... groups) {
+			return validate();
+		}
+
+		private <T> Set<ConstraintViolation<T>> validate() {
+			validatingThread = Thread.currentThread().getName();
+			if ( failure != null ) {
+				throw failure;
+			}
+			return Collections.emptySet();
+		}
+	}
+}